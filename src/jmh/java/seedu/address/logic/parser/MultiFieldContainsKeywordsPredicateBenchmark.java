@@ -0,0 +1,89 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ParallelPersonFilter;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares a full {@code find} scan using {@code MultiFieldContainsKeywordsPredicate} against the original
+ * implementation that re-reads its keywords for every person, and against the same scan run in parallel.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiFieldContainsKeywordsPredicateBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private Predicate<Person> compiled;
+    private Predicate<Person> legacy;
+
+    /**
+     * Generates the persons and a query over several fields: {@code find n/al c/sing com/sho t/fri}.
+     */
+    @Setup
+    public void setUp() {
+        persons = LargeAddressBookGenerator.getPersons(size, 3);
+
+        ArgumentMultimap keywords = new ArgumentMultimap();
+        keywords.put(PREFIX_NAME, "al");
+        keywords.put(PREFIX_NAME, "Be");
+        keywords.put(PREFIX_COUNTRY, "sing");
+        keywords.put(PREFIX_COMPANY, "sho");
+        keywords.put(PREFIX_TAG, "fri");
+        compiled = new MultiFieldContainsKeywordsPredicate(keywords);
+        legacy = new LegacyMultiFieldContainsKeywordsPredicate(keywords);
+    }
+
+    @Benchmark
+    public int compiledPlan() {
+        return countMatches(compiled);
+    }
+
+    @Benchmark
+    public int legacy() {
+        return countMatches(legacy);
+    }
+
+    @Benchmark
+    public int parallel() {
+        return ParallelPersonFilter.filter(persons, compiled).size();
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
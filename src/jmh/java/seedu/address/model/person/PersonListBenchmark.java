@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures single-person mutations on {@code PersonList} as the list grows.
+ * The cost of each benchmark should stay flat across {@code size}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private PersonList personList;
+    private Person current;
+    private Person incoming;
+
+    /**
+     * Fills the list with {@code size} persons and picks one in the middle to mutate.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = LargeAddressBookGenerator.getPersons(size, 0);
+        personList = new PersonList();
+        personList.setPersons(persons);
+        current = persons.get(size / 2);
+        incoming = current.withFlag();
+    }
+
+    /**
+     * Mirrors {@code flag}/{@code unflag}: replaces one person by reference.
+     */
+    @Benchmark
+    public PersonList setPerson() {
+        personList.setPerson(current, incoming);
+        Person previous = current;
+        current = incoming;
+        incoming = previous;
+        return personList;
+    }
+
+    /**
+     * Mirrors {@code add}: the duplicate check performed before every insertion.
+     */
+    @Benchmark
+    public boolean contains() {
+        return personList.contains(incoming);
+    }
+
+    /**
+     * Mirrors {@code delete} followed by {@code add}: removes one person by reference and appends it back.
+     */
+    @Benchmark
+    public PersonList removeAndAdd() {
+        personList.removeReference(current);
+        personList.add(current);
+        return personList;
+    }
+}
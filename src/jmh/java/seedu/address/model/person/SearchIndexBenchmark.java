@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares looking up the candidates of a tag and company filter in the {@code SearchIndex}
+ * with scanning every person.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final Map<SearchIndex.Field, String[]> TAG_AND_COMPANY = Map.of(
+            SearchIndex.Field.TAG, new String[] {"fri"},
+            SearchIndex.Field.COMPANY, new String[] {"goo"});
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private SearchIndex searchIndex;
+
+    /**
+     * Builds the index over {@code size} generated persons.
+     */
+    @Setup
+    public void setUp() {
+        persons = LargeAddressBookGenerator.getPersons(size, 0);
+        searchIndex = new SearchIndex();
+        searchIndex.build(persons);
+    }
+
+    @Benchmark
+    public Optional<Set<Person>> tagAndCompanyIndexed() {
+        return searchIndex.getCandidates(TAG_AND_COMPANY);
+    }
+
+    /**
+     * Mirrors the string matching that {@code find t/fri com/goo} does without the index.
+     */
+    @Benchmark
+    public long tagAndCompanyScan() {
+        return persons.stream()
+                .filter(person -> person.getSearchKeys().company.contains("goo"))
+                .filter(person -> person.getTags().stream().anyMatch(tag -> tag.tagName.toLowerCase().contains("fri")))
+                .count();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Compares loading and saving the address book in the json format, with and without compression, and in the binary
+ * format, with and without lazily loaded meetings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookStorageBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"json", "json-gzip", "binary", "binary-lazy"})
+    private String format;
+
+    private Path directory;
+    private AddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Saves {@code size} generated persons, each with a few meetings, in {@code format}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("addressbook-benchmark");
+        Path filePath = directory.resolve("addressbook");
+        switch (format) {
+        case "binary":
+            storage = new BinaryAddressBookStorage(filePath);
+            break;
+        case "binary-lazy":
+            storage = new BinaryAddressBookStorage(filePath, true);
+            break;
+        case "json-gzip":
+            storage = new JsonAddressBookStorage(filePath, true);
+            break;
+        default:
+            storage = new JsonAddressBookStorage(filePath);
+        }
+        addressBook = LargeAddressBookGenerator.getAddressBook(size, 4);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the saved file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public AddressBookStorage save() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.testutil;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeCountry;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates large, deterministic address books for benchmarks.
+ */
+public class LargeAddressBookGenerator {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Alice",
+        "Benson", "Carl", "Daniel", "Elle", "Fiona", "George"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Pauline",
+        "Meier", "Kurz", "Meyer", "Kunz", "Best"};
+    private static final String[] COUNTRIES = {"Singapore", "South Korea", "Sweden", "China", "Australia", "Germany",
+        "Japan", "Russia"};
+    private static final String[] COMPANIES = {"Shopee", "Meta", "Google", "Amazon", "Apple", "Microsoft", "Grab",
+        "DBS"};
+    private static final String[] TAGS = {"friends", "colleagues", "neighbours", "family", "classmates", "owesmoney"};
+    private static final LocalDateTime FIRST_MEETING = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private LargeAddressBookGenerator() {} // utility class
+
+    /**
+     * Returns the {@code index}-th generated person, with {@code meetingCount} meetings.
+     * Persons with different indexes never share an email or a phone.
+     */
+    public static Person getPerson(int index, int meetingCount) {
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < meetingCount; i++) {
+            meetings.add(new Meeting(FIRST_MEETING.plusHours((long) index * meetingCount + i),
+                    i % 2 == 0 ? "Catch up " + i : null));
+        }
+        return new Person(
+                new Name(FIRST_NAMES[index % FIRST_NAMES.length] + " " + LAST_NAMES[index % LAST_NAMES.length]
+                        + " " + index),
+                new Phone(String.valueOf(10_000_000L + index)),
+                new Email("person" + index + "@example.com"),
+                new HomeCountry(COUNTRIES[index % COUNTRIES.length]),
+                new Company(COMPANIES[(index / 3) % COMPANIES.length]),
+                Set.of(new Tag(TAGS[index % TAGS.length])),
+                index % 10 == 0,
+                meetings,
+                index % 4 == 0 ? new Link("https://example.com/person" + index) : null);
+    }
+
+    /**
+     * Returns {@code size} generated persons, each with {@code meetingsPerPerson} meetings.
+     */
+    public static List<Person> getPersons(int size, int meetingsPerPerson) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(getPerson(i, meetingsPerPerson));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code size} generated persons, each with {@code meetingsPerPerson} meetings.
+     */
+    public static AddressBook getAddressBook(int size, int meetingsPerPerson) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons(size, meetingsPerPerson));
+        return addressBook;
+    }
+}
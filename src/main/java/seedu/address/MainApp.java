@@ -23,8 +23,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.CoalescingAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RecoveredAddressBook;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,14 +39,21 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 0, true);
 
+    public static final String MESSAGE_DATA_RECOVERED = "The data file could not be loaded in full. "
+            + "Recovered %1$d contacts, and moved %2$d unreadable records to %3$s.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected CoalescingAddressBookStorage addressBookWriter;
     protected Model model;
     protected Config config;
 
+    /** The message shown to the user when the app starts, or an empty string if there is none. */
+    private String startupMessage = "";
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,20 +65,21 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        addressBookWriter = new CoalescingAddressBookStorage(addressBookStorage, userPrefs.getSaveWindowMillis());
+        storage = new StorageManager(addressBookWriter, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, startupMessage);
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the persons that can be recovered from it if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -85,14 +94,37 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = recoverAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the persons that can be recovered from {@code storage}'s address book, which could not be loaded,
+     * or an empty address book if it cannot be recovered. The number of persons recovered is shown to the user
+     * when the app starts.
+     */
+    private ReadOnlyAddressBook recoverAddressBook(Storage storage) {
+        try {
+            Optional<RecoveredAddressBook> recovered = storage.recoverAddressBook();
+            if (recovered.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded in full."
+                        + " Recovered " + recovered.get().getRecoveredCount() + " persons, and moved "
+                        + recovered.get().getQuarantinedCount() + " unreadable records to "
+                        + recovered.get().getQuarantineFilePath() + ".");
+                startupMessage = String.format(MESSAGE_DATA_RECOVERED, recovered.get().getRecoveredCount(),
+                        recovered.get().getQuarantinedCount(), recovered.get().getQuarantineFilePath());
+                return recovered.get().getAddressBook();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be recovered: " + e);
+        }
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,10 +209,18 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logger.info("Saves of the unchanged address book avoided this session: " + logic.getAvoidedSaveCount());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            addressBookWriter.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            // The window is closed by now, so the last changes would otherwise be lost without the user knowing
+            ui.showErrorDialogAndWait("Could not save the last changes to the address book", e);
+        }
     }
 }
@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +21,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +85,111 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as with {@link #writeAtomically}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes a file with the bytes {@code content} writes to the stream it is given, replacing the file if it exists.
+     * The bytes are written to a temporary file next to {@code file}, forced to the disk and then moved over
+     * {@code file} in a single step, so that a crash while writing leaves either the old or the new file in full.
+     * Where the file system cannot move atomically, the file is replaced by an ordinary move.
+     *
+     * @throws IOException if the file could not be written, in which case it is left as it was.
+     */
+    public static void writeAtomically(Path file, FileContent content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "." + file.getFileName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                content.writeTo(new CloseShieldOutputStream(out));
+                out.flush();
+                channel.force(true);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Appends {@code bytes} to the end of {@code file}, which must exist, and forces them to the disk before
+     * returning, so that what was appended survives a crash.
+     */
+    public static void append(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step, replacing it if it exists, and forces the move to
+     * the disk. Where the file system cannot move atomically, the file is moved by an ordinary move.
+     */
+    public static void move(Path source, Path target) throws IOException {
+        moveAtomically(source, target);
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a crash.
+     * Not all platforms allow directories to be opened, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move has been made; it is only not guaranteed to survive a crash yet
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface FileContent {
+        /**
+         * Writes the content to {@code out}. Closing {@code out} has no effect.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Passes writes on to an output stream, but not its closing, so that content writers may close what they wrap
+     * around it before the file has been forced to the disk.
+     */
+    private static class CloseShieldOutputStream extends FilterOutputStream {
+        CloseShieldOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -2,19 +2,28 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -29,6 +38,8 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    /** The size of the buffers that files are read and compressed through. */
+    private static final int BUFFER_SIZE = 1 << 16;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -39,13 +50,19 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes values into a streaming JSON generator without flushing it after each value. */
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (JsonParser parser = createParser(jsonFile)) {
+            return readValue(parser, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -92,6 +109,110 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes a pretty-printed JSON document to the specified file as {@code content} generates it, so that the
+     * document is never held in memory as a whole.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param content writes the document to the generator it is given, e.g. with {@link #writeValue}
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, JsonContent content) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                content.writeTo(generator);
+            }
+        });
+    }
+
+    /**
+     * Similar to {@link #writeJsonFile}, but compresses the file with gzip as it is written.
+     * The document is not pretty-printed, as the file cannot be read by hand anyway.
+     */
+    public static void writeCompressedJsonFile(Path filePath, JsonContent content) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                    new GZIPOutputStream(out, BUFFER_SIZE), JsonEncoding.UTF8)) {
+                content.writeTo(generator);
+            }
+        });
+    }
+
+    /**
+     * Returns true if {@code prefix}, the first bytes of a file, shows that the file is compressed with gzip.
+     */
+    public static boolean isCompressed(byte[] prefix) {
+        return prefix.length >= 2 && (prefix[0] & 0xFF) == (GZIPInputStream.GZIP_MAGIC & 0xFF)
+                && (prefix[1] & 0xFF) == GZIPInputStream.GZIP_MAGIC >>> 8;
+    }
+
+    /**
+     * Writes {@code value} as JSON to {@code generator}, in the same form as {@link #toJsonString(Object)}.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
+    /**
+     * Creates a parser reading a JSON document from {@code in}, which it closes when it is closed.
+     * Values read from the parser with {@link #readValue} are mapped in the same way as {@link #fromJsonString}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Creates a parser reading the JSON document in {@code jsonFile}, similar to {@link #createParser(InputStream)}.
+     * The file is read through a {@code FileChannel} a chunk at a time, which the parser decodes as it goes, so the
+     * file is never held in memory as a whole, or as a string.
+     * The file is not memory-mapped, as a mapped file cannot be replaced on Windows until the mapping is garbage
+     * collected, which would make saving the file fail.
+     * A file compressed with gzip, as by {@link #writeCompressedJsonFile}, is decompressed as it is read.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = isCompressed(in.readNBytes(2));
+            in.reset();
+            return createParser(isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the JSON value starting at the current token of {@code parser} as an instance of {@code instanceClass},
+     * leaving the parser at the last token of the value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Reads the JSON value starting at the current token of {@code parser} as a tree, leaving the parser at the last
+     * token of the value, so that the value can be kept as it is even if it cannot be read with {@link #readValue}.
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        return objectMapper.readTree(parser);
+    }
+
+    /**
+     * Converts the JSON value {@code tree} to an instance of {@code instanceClass}, in the same way as
+     * {@link #readValue}.
+     */
+    public static <T> T treeToValue(JsonNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +232,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without the whitespace added by {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Generates the contents of a JSON document.
+     */
+    @FunctionalInterface
+    public interface JsonContent {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -47,4 +47,9 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Returns the number of commands after which the address book was not saved, as it had not changed.
+     */
+    int getAvoidedSaveCount();
 }
@@ -33,13 +33,26 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /**
+     * The address book as it was last saved, if it was written before the save returned, so that commands that do
+     * not change it do not save it again. Saves written in the background are only known to be saved once the
+     * storage reports them written.
+     */
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedVersion;
+    private int avoidedSaveCount = 0;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book that the model starts with is taken to be saved already, as it was either read from the data
+     * file, or must not overwrite a data file that could not be read until it is changed.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBook = model.getAddressBook();
+        savedVersion = savedAddressBook.getVersion();
     }
 
     @Override
@@ -60,7 +73,11 @@ public class LogicManager implements Logic {
         }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBook();
+            if (commandResult.isExit()) {
+                // Waits for the last saves to be written, so that the app does not exit if writing them failed
+                storage.flush();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -70,6 +87,34 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the address book of the model, unless it is unchanged since it was last saved.
+     *
+     * @throws IOException if saving failed, or an earlier save written in the background failed.
+     */
+    private void saveAddressBook() throws IOException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        // A book whose background write failed is not written, so it is saved again, which reports the failure
+        if (storage.isWritten(addressBook)
+                || (addressBook == savedAddressBook && addressBook.getVersion() == savedVersion)) {
+            avoidedSaveCount++;
+            logger.fine("Address book unchanged since last save, not saved (" + avoidedSaveCount
+                    + " saves avoided)");
+            return;
+        }
+
+        storage.saveAddressBook(addressBook);
+        if (!storage.isWrittenInBackground()) {
+            savedAddressBook = addressBook;
+            savedVersion = addressBook.getVersion();
+        }
+    }
+
+    @Override
+    public int getAvoidedSaveCount() {
+        return avoidedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -91,9 +91,7 @@ public class AddMeetingCommand extends ConfirmableCommand {
 
         Person personToUpdate = lastShownList.get(index.getZeroBased());
         assert personToUpdate != null;
-        if (model.getAddressBook().getPersonList().stream()
-                .anyMatch(person-> person.getMeetings().stream()
-                        .anyMatch(currentMeeting -> currentMeeting.equals(meeting))) && !this.isConfirmed()) {
+        if (model.hasMeeting(meeting) && !this.isConfirmed()) {
             return new CommandResult(MESSAGE_DUPLICATE_MEETING_WARNING, this.withConfirmed());
         }
 
@@ -41,7 +41,10 @@ public class FindCommand extends Command {
             + "• " + COMMAND_WORD + " " + PREFIX_NAME + "john " + PREFIX_COUNTRY + "singapore\n"
             + "   (Finds people named 'john' AND from 'singapore')\n"
             + "• " + COMMAND_WORD + " " + PREFIX_COMPANY + "tech " + PREFIX_EMAIL + "test1@gmail.com\n"
-            + "   (Finds people working in 'tech' companies AND with 'test1@gmail.com' emails)\n";
+            + "   (Finds people working in 'tech' companies AND with 'test1@gmail.com' emails)\n"
+            + "• " + COMMAND_WORD + " " + PREFIX_MEETING + "upcoming " + PREFIX_MEETING + "from:01-10-2025 "
+            + PREFIX_MEETING + "desc:review\n"
+            + "   (Finds people with an upcoming meeting from 1 Oct 2025 whose description contains 'review')\n";
 
     private final MultiFieldContainsKeywordsPredicate predicate;
 
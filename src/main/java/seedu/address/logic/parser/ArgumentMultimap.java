@@ -22,6 +22,15 @@ public class ArgumentMultimap {
     /** Prefixes mapped to their respective arguments**/
     private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
 
+    public ArgumentMultimap() {}
+
+    /**
+     * Creates a copy of {@code source}, which later changes to {@code source} do not affect.
+     */
+    public ArgumentMultimap(ArgumentMultimap source) {
+        source.argMultimap.forEach((prefix, argValues) -> argMultimap.put(prefix, new ArrayList<>(argValues)));
+    }
+
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
      * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
@@ -15,6 +15,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.MeetingQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -50,6 +51,12 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        for (String meetingTerm : argMultimap.getAllValues(PREFIX_MEETING)) {
+            if (!meetingTerm.isBlank() && !MeetingQuery.isValidTerm(meetingTerm)) {
+                throw new ParseException(MeetingQuery.MESSAGE_CONSTRAINTS);
+            }
+        }
+
         return new FindCommand(new MultiFieldContainsKeywordsPredicate(argMultimap));
     }
 
@@ -10,191 +10,219 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.Link;
-import seedu.address.model.person.Meeting;
+import seedu.address.model.person.IndexablePredicate;
+import seedu.address.model.person.MeetingIndex;
+import seedu.address.model.person.MeetingQuery;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.person.RefinablePredicate;
+import seedu.address.model.person.SearchIndex;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Tests that a {@code Person} matches ALL the specified field criteria.
  * Each field uses OR logic within itself, but AND logic between different fields.
- * Matching is case-insensitive and uses partial/substring matching.
+ * Matching is case-insensitive and uses partial/substring matching, except for meetings, which are matched
+ * against a {@link MeetingQuery}.
+ *
+ * The keywords are compiled once, at construction, into a plan of field checks so that testing a person
+ * does not re-read the {@code ArgumentMultimap} or re-normalise the keywords. Field values are matched
+ * against the {@link SearchKeys} each person caches, and the same keywords can be looked up in a
+ * {@link SearchIndex} to narrow down the persons that need to be tested. The time filters of the meeting query
+ * are looked up in a {@link MeetingIndex} in the same way.
  */
-public class MultiFieldContainsKeywordsPredicate implements Predicate<Person> {
+public class MultiFieldContainsKeywordsPredicate implements IndexablePredicate, RefinablePredicate {
 
     private final ArgumentMultimap fieldKeywordsMap;
+    private final Map<Prefix, String[]> compiledKeywords = new HashMap<>();
+    private final Map<SearchIndex.Field, String[]> indexedKeywords = new EnumMap<>(SearchIndex.Field.class);
+    private final List<Predicate<Person>> plan;
+    /** The query on the meetings, or null if no meeting terms were given. */
+    private MeetingQuery meetingQuery;
 
+    /**
+     * Creates a predicate matching persons against the keywords in {@code fieldKeywordsMap}.
+     * Later changes to {@code fieldKeywordsMap} do not affect the created predicate.
+     */
     public MultiFieldContainsKeywordsPredicate(ArgumentMultimap fieldKeywordsMap) {
-        this.fieldKeywordsMap = fieldKeywordsMap;
+        requireNonNull(fieldKeywordsMap);
+        // Copied, as the predicate is compared and hashed by its keywords, e.g. as a key of the search result cache
+        this.fieldKeywordsMap = new ArgumentMultimap(fieldKeywordsMap);
+        this.plan = compile(this.fieldKeywordsMap);
     }
 
     /**
-     * Filters out any empty String "" or "  " from List<String></String>.
+     * Compiles the keywords of each specified field into a check on a person, and records the keywords of
+     * the fields covered by the {@code SearchIndex}.
+     * Checks are ordered so that the cheapest and most selective fields are tested first:
+     * identity fields, then short single-valued fields, then multi-valued fields.
      */
-    private static List<String> filterEmptyString(List<String> raw) {
-        return raw.stream()
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList();
-    }
+    private List<Predicate<Person>> compile(ArgumentMultimap fieldKeywordsMap) {
+        List<Predicate<Person>> checks = new ArrayList<>();
 
-    @Override
-    public boolean test(Person person) {
-        assert person != null;
-        requireNonNull(person);
-
-        // Start with always true and combine with AND logic for each specified field
-        boolean matchesAllFields = true;
-
-        // Check name field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_NAME).isPresent()) {
-            List<String> nameKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_NAME));
-            matchesAllFields = matchesAllFields && matchesName(person, nameKeywords);
+        String[] phoneKeywords = keywordsFor(fieldKeywordsMap, PREFIX_PHONE, false);
+        if (phoneKeywords != null) {
+            checks.add(person -> containsAny(person.getPhone().value, phoneKeywords));
         }
 
-        // Check phone field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_PHONE).isPresent()) {
-            List<String> phoneKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_PHONE));
-            matchesAllFields = matchesAllFields && matchesPhone(person, phoneKeywords);
+        String[] emailKeywords = keywordsFor(fieldKeywordsMap, PREFIX_EMAIL, true);
+        if (emailKeywords != null) {
+            indexedKeywords.put(SearchIndex.Field.EMAIL, emailKeywords);
+            checks.add(person -> containsAny(person.getSearchKeys().email, emailKeywords));
         }
 
-        // Check email field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_EMAIL).isPresent()) {
-            List<String> emailKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_EMAIL));
-            matchesAllFields = matchesAllFields && matchesEmail(person, emailKeywords);
+        String[] nameKeywords = keywordsFor(fieldKeywordsMap, PREFIX_NAME, true);
+        if (nameKeywords != null) {
+            indexedKeywords.put(SearchIndex.Field.NAME, nameKeywords);
+            checks.add(person -> containsAny(person.getSearchKeys().name, nameKeywords));
         }
 
-        // Check country field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_COUNTRY).isPresent()) {
-            List<String> countryKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_COUNTRY));
-            matchesAllFields = matchesAllFields && matchesCountry(person, countryKeywords);
+        String[] companyKeywords = keywordsFor(fieldKeywordsMap, PREFIX_COMPANY, true);
+        if (companyKeywords != null) {
+            indexedKeywords.put(SearchIndex.Field.COMPANY, companyKeywords);
+            checks.add(person -> containsAny(person.getSearchKeys().company, companyKeywords));
         }
 
-        // Check company field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_COMPANY).isPresent()) {
-            List<String> companyKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_COMPANY));
-            matchesAllFields = matchesAllFields && matchesCompany(person, companyKeywords);
+        String[] countryKeywords = keywordsFor(fieldKeywordsMap, PREFIX_COUNTRY, true);
+        if (countryKeywords != null) {
+            indexedKeywords.put(SearchIndex.Field.COUNTRY, countryKeywords);
+            checks.add(person -> containsAny(person.getSearchKeys().country, countryKeywords));
         }
 
-        // Check tag field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_TAG).isPresent()) {
-            List<String> tagKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_TAG));
-            matchesAllFields = matchesAllFields && matchesTags(person, tagKeywords);
+        String[] linkKeywords = keywordsFor(fieldKeywordsMap, PREFIX_LINK, true);
+        if (linkKeywords != null) {
+            indexedKeywords.put(SearchIndex.Field.LINK, linkKeywords);
+            checks.add(person -> matchesLink(person, linkKeywords));
         }
 
-        // Check meeting field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_MEETING).isPresent()) {
-            List<String> meetingKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_MEETING));
-            matchesAllFields = matchesAllFields && matchesMeeting(person, meetingKeywords);
+        String[] tagKeywords = keywordsFor(fieldKeywordsMap, PREFIX_TAG, true);
+        if (tagKeywords != null) {
+            indexedKeywords.put(SearchIndex.Field.TAG, tagKeywords);
+            checks.add(person -> matchesTags(person, tagKeywords));
         }
 
-        // Check link field if specified
-        if (fieldKeywordsMap.getValue(PREFIX_LINK).isPresent()) {
-            List<String> linkKeywords = filterEmptyString(fieldKeywordsMap.getAllValues(PREFIX_LINK));
-            matchesAllFields = matchesAllFields && matchesLink(person, linkKeywords);
+        String[] meetingTerms = keywordsFor(fieldKeywordsMap, PREFIX_MEETING, false);
+        if (meetingTerms != null) {
+            MeetingQuery meetingQuery = new MeetingQuery(Arrays.asList(meetingTerms));
+            if (meetingTerms.length > 0) {
+                this.meetingQuery = meetingQuery;
+            }
+            checks.add(person -> meetingTerms.length > 0 && meetingQuery.matches(person));
         }
 
-        return matchesAllFields;
+        return List.copyOf(checks);
     }
 
     /**
-     * Checks if the person's name contains ANY of the keywords (OR logic within name)
-     * Uses partial matching (case-insensitive)
+     * Returns the non-blank, trimmed keywords given for {@code prefix}, lowercased if {@code isCaseInsensitive},
+     * or null if the field was not specified. The keywords are kept to compare this predicate with others.
      */
-    private boolean matchesName(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
+    private String[] keywordsFor(ArgumentMultimap fieldKeywordsMap, Prefix prefix, boolean isCaseInsensitive) {
+        if (fieldKeywordsMap.getValue(prefix).isEmpty()) {
+            return null;
+        }
+        String[] keywords = fieldKeywordsMap.getAllValues(prefix).stream()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(s -> isCaseInsensitive ? s.toLowerCase() : s)
+                .toArray(String[]::new);
+        compiledKeywords.put(prefix, keywords);
+        return keywords;
     }
 
-    /**
-     * Checks if the person's phone contains ANY of the keywords (OR logic within phone)
-     * Uses partial matching
-     */
-    private boolean matchesPhone(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-        return keywords.stream()
-                .anyMatch(keyword -> person.getPhone().value.contains(keyword));
+    @Override
+    public Optional<Set<Person>> getCandidates(SearchIndex index) {
+        requireNonNull(index);
+        return index.getCandidates(indexedKeywords);
     }
 
-    /**
-     * Checks if the person's email contains ANY of the keywords (OR logic within email)
-     * Uses partial matching (case-insensitive)
-     */
-    private boolean matchesEmail(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-        return keywords.stream()
-                .anyMatch(keyword -> person.getEmail().value.toLowerCase().contains(keyword.toLowerCase()));
+    @Override
+    public Optional<Set<Person>> getCandidates(MeetingIndex index) {
+        requireNonNull(index);
+        return meetingQuery == null ? Optional.empty() : meetingQuery.getCandidates(index);
     }
 
     /**
-     * Checks if the person's country contains ANY of the keywords (OR logic within country)
-     * Uses partial matching (case-insensitive)
+     * Returns true if {@code other} is also a {@code MultiFieldContainsKeywordsPredicate} and, for every field it
+     * specifies, this predicate specifies the field too with keywords that each contain one of its keywords.
+     * Meeting queries are never compared, as {@code upcoming} and {@code past} depend on when they were created.
      */
-    private boolean matchesCountry(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-        return keywords.stream()
-                .anyMatch(keyword -> person.getCountry().value.toLowerCase().contains(keyword.toLowerCase()));
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof MultiFieldContainsKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+
+        for (Map.Entry<Prefix, String[]> entry : otherPredicate.compiledKeywords.entrySet()) {
+            String[] keywords = compiledKeywords.get(entry.getKey());
+            if (entry.getKey().equals(PREFIX_MEETING) || keywords == null) {
+                return false;
+            }
+            for (String keyword : keywords) {
+                if (!containsAny(keyword, entry.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
-    /**
-     * Checks if the person's company contains ANY of the keywords (OR logic within company)
-     * Uses partial matching (case-insensitive)
-     */
-    private boolean matchesCompany(Person person, List<String> keywords) {
+    @Override
+    public boolean test(Person person) {
+        assert person != null;
         requireNonNull(person);
-        assert !keywords.isEmpty();
-        return keywords.stream()
-                .anyMatch(keyword -> person.getCompany().value.toLowerCase().contains(keyword.toLowerCase()));
+
+        for (int i = 0; i < plan.size(); i++) {
+            if (!plan.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Checks if the person's tags contain ANY of the keywords (OR logic within tags)
-     * Uses partial matching (case-insensitive)
+     * Returns true if {@code value} contains ANY of the keywords (OR logic within a field).
      */
-    private boolean matchesTags(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-        Set<Tag> tags = person.getTags();
-        return keywords.stream().anyMatch(keyword ->
-                tags.stream().anyMatch(tag ->
-                        tag.tagName.toLowerCase().contains(keyword.toLowerCase())));
+    private static boolean containsAny(String value, String[] keywords) {
+        for (String keyword : keywords) {
+            if (value.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Checks if the person's meetings contain ANY of the keywords (OR logic within tags)
+     * Checks if the person's tags contain ANY of the keywords (OR logic within tags)
      * Uses partial matching (case-insensitive)
      */
-    private boolean matchesMeeting(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-        List<Meeting> meetings = person.getMeetings();
-        return keywords.stream().anyMatch(keyword ->
-                meetings.stream().anyMatch(tag ->
-                        meetings.toString().toLowerCase().contains(keyword.toLowerCase())));
+    private static boolean matchesTags(Person person, String[] keywords) {
+        SearchKeys searchKeys = person.getSearchKeys();
+        for (int i = 0; i < searchKeys.getTagCount(); i++) {
+            if (containsAny(searchKeys.getTag(i), keywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Checks if the person's link contain ANY of the keywords (OR logic within tags)
+     * Checks if the person's link contain ANY of the keywords (OR logic within link)
      * Uses partial matching (case-insensitive)
      */
-    private boolean matchesLink(Person person, List<String> keywords) {
-        requireNonNull(person);
-        assert !keywords.isEmpty();
-
-        Link link = person.getLink();
-        String linkValue = (link == null) ? "" : link.value.toLowerCase();
-        return keywords.stream()
-                .anyMatch(keyword -> linkValue.contains(keyword.toLowerCase()));
+    private static boolean matchesLink(Person person, String[] keywords) {
+        String link = person.getSearchKeys().link;
+        return link != null && containsAny(link, keywords);
     }
 
     @Override
@@ -211,6 +239,11 @@ public class MultiFieldContainsKeywordsPredicate implements Predicate<Person> {
         return fieldKeywordsMap.equals(otherPredicate.fieldKeywordsMap);
     }
 
+    @Override
+    public int hashCode() {
+        return fieldKeywordsMap.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -2,12 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexablePredicate;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.MeetingIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonList;
+import seedu.address.model.person.SearchIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -15,7 +22,24 @@ import seedu.address.model.person.PersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The number of recent changes that are kept to be looked up by {@link #getChangesSince(long)}. */
+    private static final int MAX_RECORDED_CHANGES = 4096;
+
     private final PersonList persons;
+    private final MeetingIndex meetings;
+    private final SearchIndex searchIndex;
+    /**
+     * False until the meeting index is first needed after the persons were replaced, as building it goes through
+     * the meeting times of every person. Until then, updates to the index are skipped.
+     */
+    private boolean isMeetingIndexBuilt = false;
+
+    /** Incremented on every change to the persons, so that results computed from them can be invalidated. */
+    private long version = 0;
+
+    /** The changes made since the persons were at {@code firstRecordedVersion}, oldest first. */
+    private final List<AddressBookChange> recordedChanges = new ArrayList<>();
+    private long firstRecordedVersion = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +50,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new PersonList();
+        meetings = new MeetingIndex();
+        searchIndex = new SearchIndex();
     }
 
     public AddressBook() {}
@@ -46,6 +72,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        meetings.setPersons(List.of());
+        isMeetingIndexBuilt = false;
+        searchIndex.clear();
+        version++;
+        // A replacement is not recorded, so earlier versions can no longer be caught up with
+        recordedChanges.clear();
+        firstRecordedVersion = version;
     }
 
     /**
@@ -73,6 +106,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (isMeetingIndexBuilt) {
+            meetings.add(p);
+        }
+        searchIndex.add(p);
+        recordChange(new AddressBookChange(AddressBookChange.Type.ADD, getPersonList().size() - 1, p));
     }
 
     /**
@@ -83,7 +121,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        if (isMeetingIndexBuilt) {
+            meetings.remove(target);
+            meetings.add(editedPerson);
+        }
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        recordChange(new AddressBookChange(AddressBookChange.Type.SET, index, editedPerson));
     }
 
     /**
@@ -91,11 +136,93 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.removeReference(key);
+        int index = persons.removeReference(key);
+        if (isMeetingIndexBuilt) {
+            meetings.remove(key);
+        }
+        searchIndex.remove(key);
+        recordChange(new AddressBookChange(AddressBookChange.Type.REMOVE, index, null));
+    }
+
+    /**
+     * Records {@code change} as the change to the next version of the persons.
+     * Only the most recent changes are kept.
+     */
+    private void recordChange(AddressBookChange change) {
+        version++;
+        if (recordedChanges.size() == MAX_RECORDED_CHANGES) {
+            recordedChanges.clear();
+            firstRecordedVersion = version - 1;
+        }
+        recordedChanges.add(change);
+    }
+
+    //// meeting-level operations
+
+    /**
+     * Returns true if any person in the address book has a meeting at the same time as {@code meeting}.
+     * The meeting index is built the first time this is called after the persons were replaced.
+     */
+    public boolean hasMeeting(Meeting meeting) {
+        requireNonNull(meeting);
+        buildMeetingIndex();
+        return meetings.hasMeetingAt(meeting.getMeetingTime());
+    }
+
+    private void buildMeetingIndex() {
+        if (!isMeetingIndexBuilt) {
+            meetings.setPersons(getPersonList());
+            isMeetingIndexBuilt = true;
+        }
+    }
+
+    //// search operations
+
+    /**
+     * Returns the persons in the address book that may match {@code predicate}, as narrowed down by the search index
+     * and the meeting index, or an empty {@code Optional} if neither index can narrow the search.
+     * The indexes are built the first time this is called after the persons were replaced.
+     *
+     * @see IndexablePredicate#getCandidates(SearchIndex)
+     * @see IndexablePredicate#getCandidates(MeetingIndex)
+     */
+    public Optional<Set<Person>> getSearchCandidates(IndexablePredicate predicate) {
+        requireNonNull(predicate);
+        if (!searchIndex.isBuilt()) {
+            searchIndex.build(persons);
+        }
+        buildMeetingIndex();
+
+        Optional<Set<Person>> candidates = predicate.getCandidates(searchIndex);
+        Optional<Set<Person>> meetingCandidates = predicate.getCandidates(meetings);
+        if (candidates.isEmpty()) {
+            return meetingCandidates;
+        }
+        meetingCandidates.ifPresent(candidates.get()::retainAll);
+        return candidates;
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        if (version < firstRecordedVersion || version > this.version) {
+            return Optional.empty();
+        }
+        int from = (int) (version - firstRecordedVersion);
+        return Optional.of(List.copyOf(recordedChanges.subList(from, recordedChanges.size())));
+    }
+
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(this, recordedChanges, firstRecordedVersion);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A change made to the person list of an {@code AddressBook}, identified by the position it was made at.
+ * Applying the changes of an address book in order to a copy of its earlier person list reproduces its
+ * current person list.
+ * Guarantees: immutable; the person is present unless the change is a removal.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of changes made to the person list.
+     */
+    public enum Type {
+        /** A person inserted at the position. */
+        ADD,
+        /** The person at the position replaced by another, e.g. when it is edited or its meetings change. */
+        SET,
+        /** The person at the position removed. */
+        REMOVE
+    }
+
+    private final Type type;
+    private final int index;
+    private final Person person;
+
+    /**
+     * Creates a change of {@code type} at the zero-based {@code index}.
+     * {@code person} is the added or replacing person, and must be null for a removal.
+     */
+    public AddressBookChange(Type type, int index, Person person) {
+        requireNonNull(type);
+        assert index >= 0;
+        assert (type == Type.REMOVE) == (person == null);
+        this.type = type;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns the changes that turn the person list {@code from} into {@code to}, or an empty {@code Optional} if
+     * more than {@code maxChanges} changes are needed.
+     * Persons are matched by reference, as persons are immutable, so a person that is not changed stays the same
+     * instance. Where the lists differ, a person of {@code from} missing from {@code to} is taken to be removed, and
+     * a person of {@code to} missing from {@code from} to be added, but the two together are taken to be an edit.
+     * Only the persons between the unchanged persons at the start and end of the lists are compared.
+     */
+    public static Optional<List<AddressBookChange>> diff(List<Person> from, List<Person> to, int maxChanges) {
+        requireAllNonNull(from, to);
+        if (Math.abs(from.size() - to.size()) > maxChanges) {
+            return Optional.empty();
+        }
+
+        int commonLength = Math.min(from.size(), to.size());
+        int start = 0;
+        while (start < commonLength && from.get(start) == to.get(start)) {
+            start++;
+        }
+        int end = 0;
+        while (end < commonLength - start && from.get(from.size() - 1 - end) == to.get(to.size() - 1 - end)) {
+            end++;
+        }
+        List<Person> changedFrom = from.subList(start, from.size() - end);
+        List<Person> changedTo = to.subList(start, to.size() - end);
+        Set<Person> inFrom = Collections.newSetFromMap(new IdentityHashMap<>());
+        inFrom.addAll(changedFrom);
+        Set<Person> inTo = Collections.newSetFromMap(new IdentityHashMap<>());
+        inTo.addAll(changedTo);
+
+        // The list being changed is changedTo[0, j) followed by changedFrom[i, end), offset by start
+        List<AddressBookChange> changes = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < changedFrom.size() || j < changedTo.size()) {
+            Person removed = i < changedFrom.size() ? changedFrom.get(i) : null;
+            Person added = j < changedTo.size() ? changedTo.get(j) : null;
+            if (removed == added) {
+                i++;
+                j++;
+            } else if (added == null || (!inTo.contains(removed) && inFrom.contains(added))) {
+                changes.add(new AddressBookChange(Type.REMOVE, start + j, null));
+                i++;
+            } else if (removed == null || (inTo.contains(removed) && !inFrom.contains(added))) {
+                changes.add(new AddressBookChange(Type.ADD, start + j, added));
+                j++;
+            } else {
+                changes.add(new AddressBookChange(Type.SET, start + j, added));
+                i++;
+                j++;
+            }
+            if (changes.size() > maxChanges) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && index == otherChange.index
+                && Objects.equals(person, otherChange.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, index, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("index", index)
+                .add("person", person)
+                .toString();
+    }
+}
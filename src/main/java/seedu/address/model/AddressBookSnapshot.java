@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons of an {@code AddressBook}, with its version and recent changes at the time.
+ * Snapshots can be handed to other threads, as later changes to the address book do not affect them.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final AddressBook source;
+    private final ObservableList<Person> persons;
+    private final long version;
+    private final List<AddressBookChange> recordedChanges;
+    private final long firstRecordedVersion;
+
+    /**
+     * Creates a snapshot of {@code source}, whose changes since {@code firstRecordedVersion} are
+     * {@code recordedChanges}.
+     */
+    AddressBookSnapshot(AddressBook source, List<AddressBookChange> recordedChanges, long firstRecordedVersion) {
+        this.source = source;
+        this.persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        this.version = source.getVersion();
+        this.recordedChanges = List.copyOf(recordedChanges);
+        this.firstRecordedVersion = firstRecordedVersion;
+    }
+
+    /**
+     * Returns the address book this is a snapshot of.
+     * Versions and changes of snapshots of the same address book can be compared with each other.
+     */
+    public AddressBook getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the address book whose versions and changes {@code addressBook} shares, i.e. the address book it is
+     * a snapshot of, if it is one.
+     */
+    public static ReadOnlyAddressBook sourceOf(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBookSnapshot snapshot ? snapshot.getSource() : addressBook;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        if (version < firstRecordedVersion || version > this.version) {
+            return Optional.empty();
+        }
+        int from = (int) (version - firstRecordedVersion);
+        return Optional.of(recordedChanges.subList(from, recordedChanges.size()));
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
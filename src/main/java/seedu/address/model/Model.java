@@ -77,6 +77,11 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns true if any person in the address book has a meeting at the same time as {@code meeting}.
+     */
+    boolean hasMeeting(Meeting meeting);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
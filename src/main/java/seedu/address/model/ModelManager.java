@@ -4,6 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,8 +22,10 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexablePredicate;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RefinablePredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -20,10 +33,50 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** The number of successive filters whose matches are kept to be refined. */
+    private static final int MAX_REFINEMENT_DEPTH = 8;
+
+    /** The number of filters whose matches are cached. */
+    private static final int RESULT_CACHE_SIZE = 16;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
 
+    /**
+     * The persons that may match the current filter and still have to be tested against it, as narrowed down by
+     * the search index or a previous filter, or null if every person has to be tested.
+     * Persons that replace a candidate or a match are added to it, so that edited persons are tested again.
+     */
+    private Set<Person> searchCandidates;
+
+    /**
+     * The persons known to match the current filter, as tested in parallel or taken from the result cache, which
+     * are not tested again, or null if the matches are not known in advance.
+     */
+    private Set<Person> searchMatches;
+
+    /**
+     * The refinable filters applied in succession, most recent first, each narrower than the one after it.
+     * A filter that refines one of them only needs to be tested against that filter's matches.
+     */
+    private final Deque<AppliedFilter> appliedFilters = new ArrayDeque<>();
+
+    /**
+     * The matches of recently applied filters, least recently used first.
+     * Only valid for the address book version they were computed at.
+     */
+    private final Map<Predicate<Person>, Set<Person>> resultCache =
+            new LinkedHashMap<>(RESULT_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Set<Person>> eldest) {
+                    return size() > RESULT_CACHE_SIZE;
+                }
+            };
+    private long resultCacheVersion;
+    private long resultCacheHits = 0;
+    private long resultCacheMisses = 0;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -80,6 +133,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        searchCandidates = null;
+        searchMatches = null;
+        appliedFilters.clear();
         this.addressBook.resetData(addressBook);
     }
 
@@ -109,9 +165,17 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        discardPreviousFilters();
+        addCandidate(editedPerson);
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public boolean hasMeeting(Meeting meeting) {
+        requireNonNull(meeting);
+        return addressBook.hasMeeting(meeting);
+    }
+
     @Override
     public void addMeeting(Person target, Meeting meeting) {
         requireAllNonNull(target, meeting);
@@ -122,7 +186,30 @@ public class ModelManager implements Model {
     @Override
     public void deleteMeeting(Person target, Meeting meeting) {
         requireAllNonNull(target, meeting);
-        addressBook.setPerson(target, target.withDeletedMeeting(meeting));
+        Person editedPerson = target.withDeletedMeeting(meeting);
+        discardPreviousFilters();
+        addCandidate(editedPerson);
+        addressBook.setPerson(target, editedPerson);
+    }
+
+    /**
+     * Makes {@code person} a candidate of the current filter, if it has been narrowed down or its matches are
+     * known, so that it is tested against the filter once it is in the address book.
+     */
+    private void addCandidate(Person person) {
+        if (searchCandidates != null) {
+            searchCandidates.add(person);
+        }
+    }
+
+    /**
+     * Discards the matches of every filter but the current one, as an edited person may now match them.
+     * The matches of the current filter are taken from the filtered list, which stays up to date.
+     */
+    private void discardPreviousFilters() {
+        while (appliedFilters.size() > 1) {
+            appliedFilters.removeLast();
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -139,7 +226,109 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            searchCandidates = null;
+            searchMatches = null;
+            appliedFilters.clear();
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        // A filter narrower than a previous one only needs to be tested against that filter's matches
+        Set<Person> candidates = refine(predicate);
+
+        Set<Person> matches = getCachedMatches(predicate);
+        boolean isCached = matches != null;
+        if (!isCached) {
+            // Otherwise, only the candidates found in the search index need to be tested
+            if (candidates == null && predicate instanceof IndexablePredicate) {
+                candidates = addressBook.getSearchCandidates((IndexablePredicate) predicate).orElse(null);
+            }
+
+            // Large filters are tested in parallel, so that the filtered list only has to look up the matches
+            int testCount = candidates == null ? addressBook.getPersonList().size() : candidates.size();
+            if (testCount >= userPrefs.getParallelFilterThreshold()
+                    && ForkJoinPool.getCommonPoolParallelism() > 1) {
+                logger.fine("Filtering " + testCount + " persons in parallel");
+                List<Person> toTest = candidates == null ? addressBook.getPersonList() : new ArrayList<>(candidates);
+                matches = ParallelPersonFilter.filter(toTest, predicate);
+            }
+        }
+
+        // Known matches are not tested again; only persons added to the candidates later are
+        searchMatches = matches;
+        searchCandidates = matches != null ? Collections.newSetFromMap(new IdentityHashMap<>()) : candidates;
+        filteredPersons.setPredicate(person -> (searchMatches != null && searchMatches.contains(person))
+                || ((searchCandidates == null || searchCandidates.contains(person)) && predicate.test(person)));
+        if (!isCached && isCacheable(predicate)) {
+            resultCache.put(predicate, identitySetOf(filteredPersons));
+        }
+    }
+
+    /**
+     * Returns a new, modifiable identity set of the cached matches of {@code predicate},
+     * or null if they are not cached for the current version of the address book.
+     */
+    private Set<Person> getCachedMatches(Predicate<Person> predicate) {
+        if (!isCacheable(predicate)) {
+            return null;
+        }
+        if (resultCacheVersion != addressBook.getVersion()) {
+            resultCache.clear();
+            resultCacheVersion = addressBook.getVersion();
+        }
+
+        Set<Person> matches = resultCache.get(predicate);
+        if (matches == null) {
+            resultCacheMisses++;
+        } else {
+            resultCacheHits++;
+        }
+        logger.fine("Filter result cache " + (matches == null ? "miss" : "hit") + " (hits: " + resultCacheHits
+                + ", misses: " + resultCacheMisses + ")");
+        return matches == null ? null : identitySetOf(matches);
+    }
+
+    /**
+     * Returns true if {@code predicate} always matches the same persons, so that its matches can be cached.
+     * A predicate that refines itself does, while one that depends on the current time does not.
+     */
+    private static boolean isCacheable(Predicate<Person> predicate) {
+        return predicate instanceof RefinablePredicate refinablePredicate && refinablePredicate.refines(predicate);
+    }
+
+    /**
+     * Records {@code predicate} as the current filter and returns a new, modifiable identity set of the matches
+     * of the most recent filter it refines, or null if it refines none of them.
+     */
+    private Set<Person> refine(Predicate<Person> predicate) {
+        AppliedFilter current = appliedFilters.peekFirst();
+        if (current != null && current.matches == null) {
+            current.matches = identitySetOf(filteredPersons);
+        }
+        if (!(predicate instanceof RefinablePredicate refinablePredicate)) {
+            appliedFilters.clear();
+            return null;
+        }
+
+        while (!appliedFilters.isEmpty() && !refinablePredicate.refines(appliedFilters.peekFirst().predicate)) {
+            appliedFilters.removeFirst();
+        }
+        Set<Person> candidates = appliedFilters.isEmpty() ? null : identitySetOf(appliedFilters.peekFirst().matches);
+        appliedFilters.addFirst(new AppliedFilter(refinablePredicate));
+        if (appliedFilters.size() > MAX_REFINEMENT_DEPTH) {
+            appliedFilters.removeLast();
+        }
+        if (candidates != null) {
+            logger.fine("Refining the previous filter's " + candidates.size() + " matches");
+        }
+        return candidates;
+    }
+
+    private static Set<Person> identitySetOf(Collection<Person> persons) {
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>(persons.size()));
+        result.addAll(persons);
+        return result;
     }
 
     @Override
@@ -159,4 +348,16 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A filter applied to the person list, with its matches once a later filter has been applied.
+     */
+    private static class AppliedFilter {
+        private final RefinablePredicate predicate;
+        private Set<Person> matches;
+
+        AppliedFilter(RefinablePredicate predicate) {
+            this.predicate = predicate;
+        }
+    }
+
 }
@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests a list of persons against a predicate on the common {@link ForkJoinPool}, splitting the list into
+ * ranges that are tested in parallel.
+ * The predicate must be safe to call from several threads at once, and the list must not be modified
+ * while it is being filtered.
+ */
+public class ParallelPersonFilter {
+
+    /** Ranges of at most this many persons are tested on a single thread. */
+    private static final int MIN_RANGE_SIZE = 2048;
+
+    private ParallelPersonFilter() {} // prevents instantiation
+
+    /**
+     * Returns a new, modifiable identity set of the persons in {@code persons} that match {@code predicate}.
+     */
+    public static Set<Person> filter(List<Person> persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        int rangeSize = Math.max(MIN_RANGE_SIZE, persons.size() / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        List<Person> matches = ForkJoinPool.commonPool()
+                .invoke(new FilterTask(persons, predicate, 0, persons.size(), rangeSize));
+
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        result.addAll(matches);
+        return result;
+    }
+
+    /**
+     * Tests the persons in a range of the list, splitting it in half until it is small enough.
+     */
+    private static class FilterTask extends RecursiveTask<List<Person>> {
+        private final List<Person> persons;
+        private final Predicate<Person> predicate;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        FilterTask(List<Person> persons, Predicate<Person> predicate, int from, int to, int rangeSize) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected List<Person> compute() {
+            if (to - from <= rangeSize) {
+                List<Person> matches = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    Person person = persons.get(i);
+                    if (predicate.test(person)) {
+                        matches.add(person);
+                    }
+                }
+                return matches;
+            }
+
+            int middle = (from + to) >>> 1;
+            FilterTask left = new FilterTask(persons, predicate, from, middle, rangeSize);
+            FilterTask right = new FilterTask(persons, predicate, middle, to, rangeSize);
+            left.fork();
+            List<Person> matches = right.compute();
+            List<Person> leftMatches = left.join();
+            leftMatches.addAll(matches);
+            return leftMatches;
+        }
+    }
+}
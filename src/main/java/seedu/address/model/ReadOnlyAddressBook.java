@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +17,21 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of changes made to the persons so far.
+     * Results computed from the persons remain valid for as long as the version is unchanged.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the persons since they were at {@code version}, in the order they were made,
+     * or an empty {@code Optional} if they are no longer known, e.g. because the persons were replaced since.
+     */
+    Optional<List<AddressBookChange>> getChangesSince(long version);
+
+    /**
+     * Returns an immutable copy of this address book, which later changes to it do not affect.
+     */
+    ReadOnlyAddressBook snapshot();
+
 }
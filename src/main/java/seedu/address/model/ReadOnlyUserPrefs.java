@@ -13,4 +13,52 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of persons from which filters are evaluated in parallel.
+     */
+    int getParallelFilterThreshold();
+
+    /**
+     * Returns true if changes to the address book are appended to a journal instead of rewriting the data file.
+     */
+    boolean isJournalEnabled();
+
+    /**
+     * Returns true if the json data file is compressed with gzip.
+     * Applies if the address book is saved as json, i.e. neither {@link #isBinaryStorageEnabled()} nor
+     * {@link #getShardCount()} applies.
+     */
+    boolean isCompressedStorageEnabled();
+
+    /**
+     * Returns true if the address book is saved in a compact binary format instead of json.
+     * Takes precedence over {@link #isJournalEnabled()}.
+     */
+    boolean isBinaryStorageEnabled();
+
+    /**
+     * Returns true if the meetings of persons are saved apart from their other details, to be loaded only when
+     * they are needed. Applies if {@link #isBinaryStorageEnabled()} is true.
+     */
+    boolean isLazyMeetingLoadingEnabled();
+
+    /**
+     * Returns the number of files the address book is split into by the emails of its persons,
+     * or 0 if it is kept in a single file.
+     * Applies if {@link #isBinaryStorageEnabled()} is false, and takes precedence over {@link #isJournalEnabled()}.
+     */
+    int getShardCount();
+
+    /**
+     * Returns true if the address book is kept in an embedded database instead of a data file.
+     * Takes precedence over every other storage format.
+     */
+    boolean isDatabaseStorageEnabled();
+
+    /**
+     * Returns the number of milliseconds for which saves of the address book are held back, so that the saves
+     * made within that time are written together.
+     */
+    long getSaveWindowMillis();
+
 }
@@ -13,8 +13,19 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 50_000;
+    public static final long DEFAULT_SAVE_WINDOW_MILLIS = 200;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private boolean journalEnabled = false;
+    private boolean compressedStorageEnabled = false;
+    private boolean binaryStorageEnabled = false;
+    private boolean lazyMeetingLoadingEnabled = false;
+    private int shardCount = 0;
+    private boolean databaseStorageEnabled = false;
+    private long saveWindowMillis = DEFAULT_SAVE_WINDOW_MILLIS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setCompressedStorageEnabled(newUserPrefs.isCompressedStorageEnabled());
+        setBinaryStorageEnabled(newUserPrefs.isBinaryStorageEnabled());
+        setLazyMeetingLoadingEnabled(newUserPrefs.isLazyMeetingLoadingEnabled());
+        setShardCount(newUserPrefs.getShardCount());
+        setDatabaseStorageEnabled(newUserPrefs.isDatabaseStorageEnabled());
+        setSaveWindowMillis(newUserPrefs.getSaveWindowMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +75,70 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public boolean isCompressedStorageEnabled() {
+        return compressedStorageEnabled;
+    }
+
+    public void setCompressedStorageEnabled(boolean compressedStorageEnabled) {
+        this.compressedStorageEnabled = compressedStorageEnabled;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
+    public boolean isLazyMeetingLoadingEnabled() {
+        return lazyMeetingLoadingEnabled;
+    }
+
+    public void setLazyMeetingLoadingEnabled(boolean lazyMeetingLoadingEnabled) {
+        this.lazyMeetingLoadingEnabled = lazyMeetingLoadingEnabled;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public boolean isDatabaseStorageEnabled() {
+        return databaseStorageEnabled;
+    }
+
+    public void setDatabaseStorageEnabled(boolean databaseStorageEnabled) {
+        this.databaseStorageEnabled = databaseStorageEnabled;
+    }
+
+    public long getSaveWindowMillis() {
+        return saveWindowMillis;
+    }
+
+    public void setSaveWindowMillis(long saveWindowMillis) {
+        this.saveWindowMillis = saveWindowMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +152,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && parallelFilterThreshold == otherUserPrefs.parallelFilterThreshold
+                && journalEnabled == otherUserPrefs.journalEnabled
+                && compressedStorageEnabled == otherUserPrefs.compressedStorageEnabled
+                && binaryStorageEnabled == otherUserPrefs.binaryStorageEnabled
+                && lazyMeetingLoadingEnabled == otherUserPrefs.lazyMeetingLoadingEnabled
+                && shardCount == otherUserPrefs.shardCount
+                && databaseStorageEnabled == otherUserPrefs.databaseStorageEnabled
+                && saveWindowMillis == otherUserPrefs.saveWindowMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelFilterThreshold, journalEnabled,
+                compressedStorageEnabled, binaryStorageEnabled, lazyMeetingLoadingEnabled, shardCount,
+                databaseStorageEnabled, saveWindowMillis);
     }
 
     @Override
@@ -82,6 +175,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nCompressed storage enabled : " + compressedStorageEnabled);
+        sb.append("\nBinary storage enabled : " + binaryStorageEnabled);
+        sb.append("\nLazy meeting loading enabled : " + lazyMeetingLoadingEnabled);
+        sb.append("\nShard count : " + shardCount);
+        sb.append("\nDatabase storage enabled : " + databaseStorageEnabled);
+        sb.append("\nSave window : " + saveWindowMillis + "ms");
         return sb.toString();
     }
 
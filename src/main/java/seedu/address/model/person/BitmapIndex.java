@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes persons by the exact case-folded value of their company, country and tags, with one
+ * {@link CompressedBitmap} of person ids per value.
+ * Person ids are assigned by the {@link SearchIndex} the index belongs to.
+ */
+public class BitmapIndex {
+
+    private final Map<SearchIndex.Field, Map<String, CompressedBitmap>> bitmaps =
+            new EnumMap<>(SearchIndex.Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public BitmapIndex() {
+        bitmaps.put(SearchIndex.Field.COMPANY, new HashMap<>());
+        bitmaps.put(SearchIndex.Field.COUNTRY, new HashMap<>());
+        bitmaps.put(SearchIndex.Field.TAG, new HashMap<>());
+    }
+
+    /**
+     * Returns true if {@code field} is indexed by this index.
+     */
+    public static boolean isIndexed(SearchIndex.Field field) {
+        return field == SearchIndex.Field.COMPANY || field == SearchIndex.Field.COUNTRY
+                || field == SearchIndex.Field.TAG;
+    }
+
+    /**
+     * Discards the contents of the index.
+     */
+    public void clear() {
+        bitmaps.values().forEach(Map::clear);
+    }
+
+    /**
+     * Indexes {@code person} under {@code id}.
+     */
+    public void add(Person person, int id) {
+        requireNonNull(person);
+        SearchKeys searchKeys = person.getSearchKeys();
+        bitmapFor(SearchIndex.Field.COMPANY, searchKeys.company).add(id);
+        bitmapFor(SearchIndex.Field.COUNTRY, searchKeys.country).add(id);
+        for (int i = 0; i < searchKeys.getTagCount(); i++) {
+            bitmapFor(SearchIndex.Field.TAG, searchKeys.getTag(i)).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which was indexed under {@code id}, from the index.
+     */
+    public void remove(Person person, int id) {
+        requireNonNull(person);
+        SearchKeys searchKeys = person.getSearchKeys();
+        removeFromBitmap(SearchIndex.Field.COMPANY, searchKeys.company, id);
+        removeFromBitmap(SearchIndex.Field.COUNTRY, searchKeys.country, id);
+        for (int i = 0; i < searchKeys.getTagCount(); i++) {
+            removeFromBitmap(SearchIndex.Field.TAG, searchKeys.getTag(i), id);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons whose {@code field} contains ANY of the case-folded {@code keywords}.
+     * Only the distinct values of the field are matched against the keywords; the bitmaps of the matching
+     * values are then combined. The returned bitmap must not be modified.
+     */
+    public CompressedBitmap getMatching(SearchIndex.Field field, String[] keywords) {
+        requireNonNull(keywords);
+        assert isIndexed(field);
+
+        List<CompressedBitmap> matching = new ArrayList<>();
+        for (Map.Entry<String, CompressedBitmap> entry : bitmaps.get(field).entrySet()) {
+            for (String keyword : keywords) {
+                if (entry.getKey().contains(keyword)) {
+                    matching.add(entry.getValue());
+                    break;
+                }
+            }
+        }
+        if (matching.isEmpty()) {
+            return new CompressedBitmap();
+        }
+
+        // Combine in pairs so that each id is copied a logarithmic number of times
+        while (matching.size() > 1) {
+            List<CompressedBitmap> combined = new ArrayList<>((matching.size() + 1) / 2);
+            for (int i = 0; i + 1 < matching.size(); i += 2) {
+                combined.add(CompressedBitmap.or(matching.get(i), matching.get(i + 1)));
+            }
+            if (matching.size() % 2 == 1) {
+                combined.add(matching.get(matching.size() - 1));
+            }
+            matching = combined;
+        }
+        return matching.get(0);
+    }
+
+    private CompressedBitmap bitmapFor(SearchIndex.Field field, String value) {
+        return bitmaps.get(field).computeIfAbsent(value, v -> new CompressedBitmap());
+    }
+
+    private void removeFromBitmap(SearchIndex.Field field, String value, int id) {
+        Map<String, CompressedBitmap> fieldBitmaps = bitmaps.get(field);
+        CompressedBitmap bitmap = fieldBitmaps.get(value);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(id);
+        if (bitmap.isEmpty()) {
+            fieldBitmaps.remove(value);
+        }
+    }
+}
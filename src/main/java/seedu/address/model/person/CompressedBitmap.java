@@ -0,0 +1,408 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative integers, laid out like a Roaring bitmap.
+ * Integers are grouped into chunks by their upper 16 bits. A chunk with few integers stores their lower
+ * 16 bits as a sorted array, and a chunk with many integers stores them as a bitmap of 2^16 bits, so that
+ * sparse sets stay small and dense sets stay fast.
+ */
+public class CompressedBitmap {
+
+    /** Chunks holding more integers than this are stored as bitmaps. */
+    static final int MAX_ARRAY_CARDINALITY = 4096;
+
+    private static final int WORDS_PER_BITMAP = (1 << 16) / Long.SIZE;
+
+    /** Sorted upper 16 bits of the integers in each chunk. */
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount = 0;
+
+    /**
+     * Adds {@code value} to the set.
+     */
+    public void add(int value) {
+        assert value >= 0;
+        char key = (char) (value >>> 16);
+        int position = Arrays.binarySearch(keys, 0, chunkCount, key);
+        if (position < 0) {
+            position = -position - 1;
+            insertChunk(position, key, new ArrayChunk());
+        }
+        chunks[position] = chunks[position].add((char) value);
+    }
+
+    /**
+     * Removes {@code value} from the set, if present.
+     */
+    public void remove(int value) {
+        assert value >= 0;
+        int position = Arrays.binarySearch(keys, 0, chunkCount, (char) (value >>> 16));
+        if (position < 0) {
+            return;
+        }
+        Chunk chunk = chunks[position].remove((char) value);
+        if (chunk.cardinality() == 0) {
+            removeChunk(position);
+        } else {
+            chunks[position] = chunk;
+        }
+    }
+
+    /**
+     * Returns true if the set contains {@code value}.
+     */
+    public boolean contains(int value) {
+        assert value >= 0;
+        int position = Arrays.binarySearch(keys, 0, chunkCount, (char) (value >>> 16));
+        return position >= 0 && chunks[position].contains((char) value);
+    }
+
+    /**
+     * Returns the number of integers in the set.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Removes every integer from the set.
+     */
+    public void clear() {
+        keys = new char[0];
+        chunks = new Chunk[0];
+        chunkCount = 0;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Calls {@code action} with each integer in the set, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns a new set of the integers in both {@code first} and {@code second}.
+     */
+    public static CompressedBitmap and(CompressedBitmap first, CompressedBitmap second) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.chunkCount && j < second.chunkCount) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = first.chunks[i].and(second.chunks[j]);
+                if (chunk.cardinality() > 0) {
+                    result.appendChunk(first.keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the integers in {@code first}, {@code second} or both.
+     */
+    public static CompressedBitmap or(CompressedBitmap first, CompressedBitmap second) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.chunkCount || j < second.chunkCount) {
+            if (j == second.chunkCount || (i < first.chunkCount && first.keys[i] < second.keys[j])) {
+                result.appendChunk(first.keys[i], first.chunks[i].copy());
+                i++;
+            } else if (i == first.chunkCount || first.keys[i] > second.keys[j]) {
+                result.appendChunk(second.keys[j], second.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(first.keys[i], first.chunks[i].or(second.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private void insertChunk(int position, char key, Chunk chunk) {
+        ensureCapacity();
+        System.arraycopy(keys, position, keys, position + 1, chunkCount - position);
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        keys[position] = key;
+        chunks[position] = chunk;
+        chunkCount++;
+    }
+
+    private void appendChunk(char key, Chunk chunk) {
+        insertChunk(chunkCount, key, chunk);
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, chunkCount - position - 1);
+        System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    private void ensureCapacity() {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, keys.length * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+    }
+
+    /**
+     * The lower 16 bits of the integers sharing the same upper 16 bits.
+     * Operations return the chunk that holds the result, which may be a different kind of chunk.
+     */
+    private interface Chunk {
+        Chunk add(char value);
+
+        Chunk remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        void forEach(int base, IntConsumer action);
+
+        Chunk and(Chunk other);
+
+        Chunk or(Chunk other);
+
+        Chunk copy();
+    }
+
+    /**
+     * A chunk storing its values in a sorted array.
+     */
+    private static class ArrayChunk implements Chunk {
+        private char[] values;
+        private int cardinality;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Chunk add(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                return toBitmapChunk().add(value);
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(4, values.length * 2), MAX_ARRAY_CARDINALITY));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Chunk remove(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        public Chunk or(Chunk other) {
+            if (other instanceof BitmapChunk) {
+                return other.or(this);
+            }
+            ArrayChunk otherArray = (ArrayChunk) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayChunk merged = new ArrayChunk(result, count);
+            return count > MAX_ARRAY_CARDINALITY ? merged.toBitmapChunk() : merged;
+        }
+
+        @Override
+        public Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        private BitmapChunk toBitmapChunk() {
+            BitmapChunk bitmap = new BitmapChunk();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A chunk storing its values as a bitmap of 2^16 bits.
+     */
+    private static class BitmapChunk implements Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk() {
+            this(new long[WORDS_PER_BITMAP], 0);
+        }
+
+        BitmapChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Chunk add(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Chunk remove(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) != 0) {
+                words[value >>> 6] &= ~mask;
+                cardinality--;
+            }
+            return cardinality > MAX_ARRAY_CARDINALITY ? this : toArrayChunk();
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] result = new long[WORDS_PER_BITMAP];
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapChunk intersection = new BitmapChunk(result, count);
+            return count > MAX_ARRAY_CARDINALITY ? intersection : intersection.toArrayChunk();
+        }
+
+        @Override
+        public Chunk or(Chunk other) {
+            BitmapChunk union = (BitmapChunk) copy();
+            if (other instanceof ArrayChunk) {
+                other.forEach(0, value -> union.add((char) value));
+                return union;
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_BITMAP; i++) {
+                union.words[i] |= otherWords[i];
+                count += Long.bitCount(union.words[i]);
+            }
+            union.cardinality = count;
+            return union;
+        }
+
+        @Override
+        public Chunk copy() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+
+        private ArrayChunk toArrayChunk() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayChunk(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can use a {@link SearchIndex} and a {@link MeetingIndex} to narrow down
+ * the persons it may match, so that only those need to be tested.
+ */
+public interface IndexablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns a new, modifiable identity set of persons that may match this predicate, looked up in {@code index}.
+     * Every indexed person that matches must be in the returned set.
+     * Returns an empty {@code Optional} if the index cannot narrow the search.
+     */
+    Optional<Set<Person>> getCandidates(SearchIndex index);
+
+    /**
+     * Returns a new, modifiable identity set of persons that may match this predicate, looked up in {@code index}.
+     * Every indexed person that matches must be in the returned set.
+     * Returns an empty {@code Optional} if the index cannot narrow the search, which is the default.
+     */
+    default Optional<Set<Person>> getCandidates(MeetingIndex index) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes the meetings of a collection of persons by meeting time.
+ * Several persons may hold a meeting at the same time, and persons are tracked by reference so that
+ * the index can be kept in step with a {@link PersonList}. Only the times of the meetings are indexed, so that
+ * meetings that have not been loaded are indexed without loading them.
+ */
+public class MeetingIndex {
+
+    private final NavigableMap<LocalDateTime, List<Person>> personsByTime = new TreeMap<>();
+
+    /**
+     * Indexes every meeting of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (LocalDateTime meetingTime : person.getMeetingTimes()) {
+            personsByTime.computeIfAbsent(meetingTime, time -> new ArrayList<>(1)).add(person);
+        }
+    }
+
+    /**
+     * Removes every meeting of {@code person} from the index.
+     * {@code person} must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (LocalDateTime meetingTime : person.getMeetingTimes()) {
+            List<Person> holders = personsByTime.get(meetingTime);
+            if (holders == null) {
+                continue;
+            }
+            for (int i = 0; i < holders.size(); i++) {
+                if (holders.get(i) == person) {
+                    holders.remove(i);
+                    break;
+                }
+            }
+            if (holders.isEmpty()) {
+                personsByTime.remove(meetingTime);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the meetings of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByTime.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if any indexed person has a meeting at {@code meetingTime}.
+     */
+    public boolean hasMeetingAt(LocalDateTime meetingTime) {
+        requireNonNull(meetingTime);
+        return personsByTime.containsKey(meetingTime);
+    }
+
+    /**
+     * Returns the persons holding a meeting between {@code from} and {@code to}, both inclusive,
+     * in order of their earliest meeting in that range. Each person appears once.
+     */
+    public List<Person> getPersonsWithMeetingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+
+        Set<Person> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> persons = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, List<Person>> entry : personsByTime.subMap(from, true, to, true).entrySet()) {
+            for (Person person : entry.getValue()) {
+                if (seen.add(person)) {
+                    persons.add(person);
+                }
+            }
+        }
+        return persons;
+    }
+}
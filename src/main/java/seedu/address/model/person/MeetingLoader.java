@@ -0,0 +1,18 @@
+package seedu.address.model.person;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Loads the meetings of a {@code Person} whose meetings are left in storage until they are first needed.
+ */
+@FunctionalInterface
+public interface MeetingLoader {
+
+    /**
+     * Returns the meetings of the person, in order.
+     *
+     * @throws UncheckedIOException if the meetings could not be loaded from storage.
+     */
+    List<Meeting> loadMeetings();
+}
@@ -0,0 +1,239 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A query on the meetings of a person, compiled from the terms given to {@code find m/}.
+ * Guarantees: immutable; every term is valid as declared in {@link #isValidTerm(String)}
+ *
+ * Terms are case-insensitive and are one of:
+ * <ul>
+ *     <li>{@code upcoming} or {@code past}: meetings after or before the time the query was created</li>
+ *     <li>{@code from:DD-MM-YYYY [HH:MM]} or {@code to:DD-MM-YYYY [HH:MM]}: meetings at or after, or at or
+ *     before, the given time. A date without a time covers the whole day.</li>
+ *     <li>{@code on:DD-MM-YYYY}: meetings on the given day</li>
+ *     <li>{@code desc:KEYWORD}: meetings whose description contains the keyword</li>
+ *     <li>any other keyword: meetings whose displayed text, {@code DD MMM YYYY HH:MM DESCRIPTION}, contains it</li>
+ * </ul>
+ * A person matches if ANY of their meetings satisfies ALL the time filters and, if keywords are given,
+ * contains ANY of the keywords.
+ */
+public class MeetingQuery {
+
+    public static final String MESSAGE_CONSTRAINTS = "Meeting search terms should be 'upcoming', 'past', "
+            + "'from:DD-MM-YYYY [HH:MM]', 'to:DD-MM-YYYY [HH:MM]', 'on:DD-MM-YYYY', 'desc:KEYWORD' or a keyword, "
+            + "and should not be blank";
+
+    private static final String TERM_UPCOMING = "upcoming";
+    private static final String TERM_PAST = "past";
+    private static final String TERM_FROM = "from:";
+    private static final String TERM_TO = "to:";
+    private static final String TERM_ON = "on:";
+    private static final String TERM_DESCRIPTION = "desc:";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    /** Inclusive bounds on the meeting time; null if unbounded. */
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    /** Exclusive bounds set by {@code upcoming} and {@code past}; null if not given. */
+    private final LocalDateTime after;
+    private final LocalDateTime before;
+
+    private final String[] textKeywords;
+    private final String[] descriptionKeywords;
+
+    /**
+     * Constructs a {@code MeetingQuery} from the given terms, with {@code upcoming} and {@code past} relative to
+     * the current time.
+     *
+     * @param terms Valid meeting search terms.
+     */
+    public MeetingQuery(Collection<String> terms) {
+        this(terms, LocalDateTime.now());
+    }
+
+    /**
+     * Constructs a {@code MeetingQuery} from the given terms, with {@code upcoming} and {@code past} relative to
+     * {@code now}.
+     *
+     * @param terms Valid meeting search terms.
+     */
+    public MeetingQuery(Collection<String> terms, LocalDateTime now) {
+        requireAllNonNull(terms, now);
+
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        LocalDateTime after = null;
+        LocalDateTime before = null;
+        List<String> textKeywords = new ArrayList<>();
+        List<String> descriptionKeywords = new ArrayList<>();
+        for (String term : terms) {
+            checkArgument(isValidTerm(term), MESSAGE_CONSTRAINTS);
+            String trimmedTerm = term.trim();
+            String foldedTerm = trimmedTerm.toLowerCase();
+
+            if (foldedTerm.equals(TERM_UPCOMING)) {
+                after = now;
+            } else if (foldedTerm.equals(TERM_PAST)) {
+                before = now;
+            } else if (foldedTerm.startsWith(TERM_FROM)) {
+                from = latest(from, parseStart(valueOf(trimmedTerm, TERM_FROM)));
+            } else if (foldedTerm.startsWith(TERM_TO)) {
+                to = earliest(to, parseEnd(valueOf(trimmedTerm, TERM_TO)));
+            } else if (foldedTerm.startsWith(TERM_ON)) {
+                LocalDate day = LocalDate.parse(valueOf(trimmedTerm, TERM_ON), DATE_FORMATTER);
+                from = latest(from, day.atStartOfDay());
+                to = earliest(to, day.atTime(LocalTime.MAX));
+            } else if (foldedTerm.startsWith(TERM_DESCRIPTION)) {
+                descriptionKeywords.add(valueOf(foldedTerm, TERM_DESCRIPTION));
+            } else {
+                textKeywords.add(foldedTerm);
+            }
+        }
+
+        this.from = from;
+        this.to = to;
+        this.after = after;
+        this.before = before;
+        this.textKeywords = textKeywords.toArray(String[]::new);
+        this.descriptionKeywords = descriptionKeywords.toArray(String[]::new);
+    }
+
+    /**
+     * Returns true if a given string is a valid meeting search term.
+     */
+    public static boolean isValidTerm(String test) {
+        requireNonNull(test);
+        String trimmedTest = test.trim();
+        String foldedTest = trimmedTest.toLowerCase();
+        try {
+            if (foldedTest.startsWith(TERM_FROM)) {
+                parseStart(valueOf(trimmedTest, TERM_FROM));
+            } else if (foldedTest.startsWith(TERM_TO)) {
+                parseEnd(valueOf(trimmedTest, TERM_TO));
+            } else if (foldedTest.startsWith(TERM_ON)) {
+                LocalDate.parse(valueOf(trimmedTest, TERM_ON), DATE_FORMATTER);
+            } else if (foldedTest.startsWith(TERM_DESCRIPTION)) {
+                return !valueOf(trimmedTest, TERM_DESCRIPTION).isEmpty();
+            }
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+        return !trimmedTest.isEmpty();
+    }
+
+    /**
+     * Returns true if ANY of the meetings of {@code person} satisfies this query.
+     * Meetings are checked against the time filters before their text is looked at, so that the meetings of a
+     * person are not loaded unless one of them is within the time filters and keywords were given.
+     */
+    public boolean matches(Person person) {
+        requireNonNull(person);
+        List<LocalDateTime> meetingTimes = person.getMeetingTimes();
+        SearchKeys searchKeys = person.getSearchKeys();
+        for (int i = 0; i < meetingTimes.size(); i++) {
+            if (isWithinTimeFilters(meetingTimes.get(i)) && matchesKeywords(searchKeys, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a new, modifiable identity set of the persons in {@code index} with a meeting within the time
+     * filters of this query, which includes every indexed person it matches.
+     * Returns an empty {@code Optional} if no time filters were given.
+     */
+    public Optional<Set<Person>> getCandidates(MeetingIndex index) {
+        requireNonNull(index);
+        if (from == null && to == null && after == null && before == null) {
+            return Optional.empty();
+        }
+
+        // The exclusive bounds are looked up as inclusive ones, as the candidates are tested against them anyway
+        LocalDateTime start = latest(after, from == null ? LocalDateTime.MIN : from);
+        LocalDateTime end = earliest(before, to == null ? LocalDateTime.MAX : to);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(index.getPersonsWithMeetingsBetween(start, end));
+        return Optional.of(candidates);
+    }
+
+    private boolean isWithinTimeFilters(LocalDateTime meetingTime) {
+        return (from == null || !meetingTime.isBefore(from))
+                && (to == null || !meetingTime.isAfter(to))
+                && (after == null || meetingTime.isAfter(after))
+                && (before == null || meetingTime.isBefore(before));
+    }
+
+    /**
+     * Returns true if no keywords were given or the {@code index}-th meeting contains ANY of the keywords.
+     */
+    private boolean matchesKeywords(SearchKeys searchKeys, int index) {
+        if (textKeywords.length == 0 && descriptionKeywords.length == 0) {
+            return true;
+        }
+        return containsAny(searchKeys.getMeetingDescription(index), descriptionKeywords)
+                || containsAny(searchKeys.getMeetingText(index), textKeywords);
+    }
+
+    private static boolean containsAny(String value, String[] keywords) {
+        for (String keyword : keywords) {
+            if (value.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String valueOf(String term, String key) {
+        return term.substring(key.length()).trim();
+    }
+
+    /**
+     * Parses the start of the time range given by {@code value}, which is the start of the day if no time is given.
+     */
+    private static LocalDateTime parseStart(String value) {
+        if (value.contains(" ")) {
+            return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+        }
+        return LocalDate.parse(value, DATE_FORMATTER).atStartOfDay();
+    }
+
+    /**
+     * Parses the end of the time range given by {@code value}, which is the end of the day if no time is given.
+     */
+    private static LocalDateTime parseEnd(String value) {
+        if (value.contains(" ")) {
+            return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+        }
+        return LocalDate.parse(value, DATE_FORMATTER).atTime(LocalTime.MAX);
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -15,6 +17,8 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The meetings of a person may be left in storage until they are first needed, see {@link MeetingLoader}. Their
+ * times may be known without them, so that meeting clashes are checked, and persons compared, without loading them.
  */
 public class Person {
 
@@ -28,9 +32,17 @@ public class Person {
     private final Company company;
     private final Set<Tag> tags = new HashSet<>();
     private final boolean isFlagged;
-    private final List<Meeting> meetings;
+    /** Null until the meetings are loaded by {@code meetingLoader}. */
+    private volatile List<Meeting> meetings;
+    /** Null once the meetings are loaded. */
+    private MeetingLoader meetingLoader;
+    /** The times of the meetings, in order, or null until the meetings are loaded if they are not known. */
+    private volatile List<LocalDateTime> meetingTimes;
     private final Link link;
 
+    // Derived fields
+    private final SearchKeys searchKeys;
+
     /**
      * Every field must be present and not null.
      */
@@ -44,8 +56,41 @@ public class Person {
         this.company = company;
         this.tags.addAll(tags);
         this.isFlagged = isFlagged;
-        this.meetings = new ArrayList<>(meetings);
+        this.meetings = Collections.unmodifiableList(new ArrayList<>(meetings));
+        this.meetingTimes = timesOf(this.meetings);
+        this.link = link;
+        this.searchKeys = new SearchKeys(name, email, country, company, this.tags, link, this::getMeetings);
+    }
+
+    /**
+     * Creates a person whose meetings are loaded by {@code meetingLoader} the first time they are needed.
+     * Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, Email email, HomeCountry country, Company company, Set<Tag> tags,
+                  boolean isFlagged, MeetingLoader meetingLoader, Link link) {
+        requireAllNonNull(name, phone, email, country, company, tags, meetingLoader);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.country = country;
+        this.company = company;
+        this.tags.addAll(tags);
+        this.isFlagged = isFlagged;
+        this.meetingLoader = meetingLoader;
         this.link = link;
+        this.searchKeys = new SearchKeys(name, email, country, company, this.tags, link, this::getMeetings);
+    }
+
+    /**
+     * Creates a person whose meetings, held at {@code meetingTimes}, are loaded by {@code meetingLoader} the first
+     * time they are needed.
+     * Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, Email email, HomeCountry country, Company company, Set<Tag> tags,
+                  boolean isFlagged, List<LocalDateTime> meetingTimes, MeetingLoader meetingLoader, Link link) {
+        this(name, phone, email, country, company, tags, isFlagged, meetingLoader, link);
+        requireAllNonNull(meetingTimes);
+        this.meetingTimes = Collections.unmodifiableList(new ArrayList<>(meetingTimes));
     }
 
     public Name getName() {
@@ -79,19 +124,70 @@ public class Person {
         return isFlagged;
     }
 
+    /**
+     * Returns an immutable meeting list, loading the meetings if they have not been loaded yet.
+     *
+     * @throws java.io.UncheckedIOException if the meetings could not be loaded.
+     */
     public List<Meeting> getMeetings() {
-        return Collections.unmodifiableList(meetings);
+        List<Meeting> loadedMeetings = meetings;
+        return loadedMeetings != null ? loadedMeetings : loadMeetings();
+    }
+
+    private synchronized List<Meeting> loadMeetings() {
+        if (meetings == null) {
+            meetings = Collections.unmodifiableList(new ArrayList<>(meetingLoader.loadMeetings()));
+            meetingLoader = null;
+            if (meetingTimes == null) {
+                meetingTimes = timesOf(meetings);
+            }
+        }
+        return meetings;
+    }
+
+    /**
+     * Returns the immutable list of the times of the meetings, in the same order as {@link #getMeetings()}.
+     * Only loads the meetings if their times are not known without them.
+     *
+     * @throws java.io.UncheckedIOException if the meetings had to be loaded, and could not be.
+     */
+    public List<LocalDateTime> getMeetingTimes() {
+        List<LocalDateTime> knownMeetingTimes = meetingTimes;
+        if (knownMeetingTimes != null) {
+            return knownMeetingTimes;
+        }
+        loadMeetings();
+        return meetingTimes;
+    }
+
+    private static List<LocalDateTime> timesOf(List<Meeting> meetings) {
+        return meetings.stream().map(Meeting::getMeetingTime).toList();
+    }
+
+    /**
+     * Returns the loader of this person's meetings if they have not been loaded yet, so that they can be saved
+     * without loading them.
+     */
+    public synchronized Optional<MeetingLoader> getPendingMeetingLoader() {
+        return Optional.ofNullable(meetingLoader);
     }
 
     public Link getLink() {
         return link;
     }
 
+    /**
+     * Returns the case-folded values of this person's searchable fields.
+     */
+    public SearchKeys getSearchKeys() {
+        return searchKeys;
+    }
+
     /**
      * Returns a new Person with an updated set of meetings including the new meeting.
      */
     public Person withAddedMeeting(Meeting newMeeting) {
-        List<Meeting> updatedMeetings = new ArrayList<>(meetings);
+        List<Meeting> updatedMeetings = new ArrayList<>(getMeetings());
         updatedMeetings.add(newMeeting);
         return new Person(name, phone, email, country, company, tags, isFlagged, updatedMeetings, link);
     }
@@ -100,7 +196,7 @@ public class Person {
      * Returns a new Person with the specified meeting removed from the set of meetings.
      */
     public Person withDeletedMeeting(Meeting meetingToDelete) {
-        List<Meeting> updatedMeetings = new ArrayList<>(meetings);
+        List<Meeting> updatedMeetings = new ArrayList<>(getMeetings());
         updatedMeetings.remove(meetingToDelete);
         return new Person(name, phone, email, country, company, tags, isFlagged, updatedMeetings, link);
     }
@@ -109,34 +205,27 @@ public class Person {
      * Returns a new flagged Person.
      */
     public Person withFlag() {
-        return new Person(
-                this.getName(),
-                this.getPhone(),
-                this.getEmail(),
-                this.getCountry(),
-                this.getCompany(),
-                this.getTags(),
-                true,
-                this.getMeetings(),
-                this.getLink()
-        );
+        return withFlagged(true);
     }
 
     /**
      * Returns a new unflagged Person.
      */
     public Person withUnflag() {
-        return new Person(
-                this.getName(),
-                this.getPhone(),
-                this.getEmail(),
-                this.getCountry(),
-                this.getCompany(),
-                this.getTags(),
-                false,
-                this.getMeetings(),
-                this.getLink()
-        );
+        return withFlagged(false);
+    }
+
+    /**
+     * Returns a copy of this person with the given flag, which leaves the meetings unloaded if they are.
+     */
+    private synchronized Person withFlagged(boolean isFlagged) {
+        if (meetingLoader != null && meetingTimes != null) {
+            return new Person(name, phone, email, country, company, tags, isFlagged, meetingTimes, meetingLoader,
+                    link);
+        } else if (meetingLoader != null) {
+            return new Person(name, phone, email, country, company, tags, isFlagged, meetingLoader, link);
+        }
+        return new Person(name, phone, email, country, company, tags, isFlagged, getMeetings(), link);
     }
 
     /**
@@ -174,14 +263,15 @@ public class Person {
                 && company.equals(otherPerson.company)
                 && tags.equals(otherPerson.tags)
                 && isFlagged == otherPerson.isFlagged
-                && meetings.equals(otherPerson.meetings)
+                // Meetings are equal if they are at the same time, so their times are compared without loading them
+                && getMeetingTimes().equals(otherPerson.getMeetingTimes())
                 && Objects.equals(link, otherPerson.link);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, country, company, tags, isFlagged, meetings, link);
+        return Objects.hash(name, phone, email, country, company, tags, isFlagged, getMeetingTimes(), link);
     }
 
     @Override
@@ -193,8 +283,13 @@ public class Person {
                 .add("country", country)
                 .add("company", company)
                 .add("tags", tags)
-                .add("isFlagged", isFlagged)
-                .add("meetings", meetings);
+                .add("isFlagged", isFlagged);
+        List<Meeting> loadedMeetings = meetings;
+        if (loadedMeetings != null) {
+            tsb.add("meetings", loadedMeetings);
+        } else {
+            tsb.add("meetingTimes", getMeetingTimes());
+        }
 
         if (link != null) {
             tsb.add("link", link);
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,21 +20,43 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * exact desired person will be removed.
  *
  * Supports a minimal set of list operations.
+ * Emails and phones of the persons in the list are indexed so that {@link #contains(Person)} does not need to
+ * scan the list, and the position of each person is cached so that reference lookups do not either.
  *
  * @see Person#isSamePerson(Person)
  */
 public class PersonList implements Iterable<Person> {
 
+    /**
+     * Minimum number of removals after which cached positions are rebuilt.
+     * Larger lists wait for about the square root of their size, balancing the cost of a rebuild against the
+     * search window of a lookup.
+     */
+    private static final int MIN_REINDEX_THRESHOLD = 64;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Number of persons in the list holding each email. */
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
+    /** Number of persons in the list holding each phone. */
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+
+    /**
+     * Last known position of each person in the list.
+     * A removal shifts the persons after it one place to the left without updating their cached positions,
+     * so a cached position may overstate the actual one by at most {@code removalsSinceReindex}.
+     */
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    private int removalsSinceReindex = 0;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailCounts.containsKey(toCheck.getEmail()) || phoneCounts.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -41,14 +66,18 @@ public class PersonList implements Iterable<Person> {
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         internalList.add(toAdd);
+        positions.putIfAbsent(toAdd, internalList.size() - 1);
+        indexIdentity(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} can be the same as another existing person in the list.
+     *
+     * @return the position of {@code target} in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
         int index = indexOfReference(target);
@@ -57,33 +86,82 @@ public class PersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positions.remove(target);
+        positions.putIfAbsent(editedPerson, index);
+        unindexIdentity(target);
+        indexIdentity(editedPerson);
+        return index;
     }
 
     /**
      * Removes the exact instance person from the list (reference equality).
      * The person must exist in the list.
+     *
+     * @return the position {@code toRemove} was removed from.
      */
-    public void removeReference(Person toRemove) {
+    public int removeReference(Person toRemove) {
         requireNonNull(toRemove);
         int index = indexOfReference(toRemove);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
         internalList.remove(index);
+        positions.remove(toRemove);
+        unindexIdentity(toRemove);
+
+        removalsSinceReindex++;
+        if (removalsSinceReindex > Math.max(MIN_REINDEX_THRESHOLD, (int) Math.sqrt(internalList.size()))) {
+            reindexPositions();
+        }
+        return index;
     }
 
+    /**
+     * Returns the position of {@code target} in the list, or -1 if it is not in the list.
+     * The cached position is used as a starting point and only the window it may have drifted by is searched;
+     * a full scan is only needed if the person is not in the cache, e.g. when the same instance was added twice.
+     */
     private int indexOfReference(Person target) {
+        Integer cached = positions.get(target);
+        if (cached != null) {
+            int upper = Math.min(cached, internalList.size() - 1);
+            int lower = Math.max(0, cached - removalsSinceReindex);
+            for (int i = upper; i >= lower; i--) {
+                if (internalList.get(i) == target) {
+                    positions.put(target, i);
+                    return i;
+                }
+            }
+        }
+
         for (int i = 0; i < internalList.size(); i++) {
             if (internalList.get(i) == target) {
+                positions.put(target, i);
                 return i;
             }
         }
         return -1; // not found
     }
 
+    /**
+     * Rebuilds the cached positions from the current contents of the list.
+     */
+    private void reindexPositions() {
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.putIfAbsent(internalList.get(i), i);
+        }
+        removalsSinceReindex = 0;
+    }
+
     public void setPersons(PersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        emailCounts.clear();
+        emailCounts.putAll(replacement.emailCounts);
+        phoneCounts.clear();
+        phoneCounts.putAll(replacement.phoneCounts);
+        reindexPositions();
     }
 
     /**
@@ -93,6 +171,26 @@ public class PersonList implements Iterable<Person> {
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
         internalList.setAll(persons);
+        emailCounts.clear();
+        phoneCounts.clear();
+        persons.forEach(this::indexIdentity);
+        reindexPositions();
+    }
+
+    /**
+     * Records the identity fields of {@code person} in the email and phone indexes.
+     */
+    private void indexIdentity(Person person) {
+        emailCounts.merge(person.getEmail(), 1, Integer::sum);
+        phoneCounts.merge(person.getPhone(), 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of the identity fields of {@code person} from the email and phone indexes.
+     */
+    private void unindexIdentity(Person person) {
+        emailCounts.computeIfPresent(person.getEmail(), (email, count) -> count == 1 ? null : count - 1);
+        phoneCounts.computeIfPresent(person.getPhone(), (phone, count) -> count == 1 ? null : count - 1);
     }
 
     /**
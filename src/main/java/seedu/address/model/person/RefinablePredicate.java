@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can tell when it only matches persons that another predicate matches,
+ * so that it only needs to be tested against the persons the other predicate matched.
+ */
+public interface RefinablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person matching this predicate is known to also match {@code other}.
+     * Returning false is always safe.
+     */
+    boolean refines(Predicate<Person> other);
+}
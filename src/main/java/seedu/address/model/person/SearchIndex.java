@@ -0,0 +1,146 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Indexes the searchable fields of persons so that filters can be narrowed down to the persons that may match.
+ * The company, country and tags of persons are kept in a {@link BitmapIndex}, and their name, email and link
+ * in a {@link TrigramIndex}. Both refer to persons by a small integer id, so that candidates can be combined as
+ * bitmaps before they are turned back into persons.
+ * Ids of removed persons are reused.
+ *
+ * The index is built on first use and kept up to date afterwards; until then, updates are ignored.
+ * Persons are tracked by reference so that the index can be kept in step with a {@link PersonList}.
+ */
+public class SearchIndex {
+
+    /**
+     * The searchable fields of a person that are indexed.
+     * Values are taken from the person's {@link SearchKeys}.
+     */
+    public enum Field { NAME, EMAIL, COMPANY, COUNTRY, TAG, LINK }
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final BitmapIndex bitmapIndex = new BitmapIndex();
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Integer> freeIds = new ArrayList<>();
+    private boolean isBuilt = false;
+
+    public boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Builds the index from {@code persons}, replacing any previous contents.
+     */
+    public void build(Iterable<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        isBuilt = true;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Discards the contents of the index. It will have to be built again before it can be used.
+     */
+    public void clear() {
+        trigramIndex.clear();
+        bitmapIndex.clear();
+        ids.clear();
+        persons.clear();
+        freeIds.clear();
+        isBuilt = false;
+    }
+
+    /**
+     * Indexes {@code person}. Does nothing if the index has not been built.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        assert !ids.containsKey(person);
+
+        int id;
+        if (freeIds.isEmpty()) {
+            id = persons.size();
+            persons.add(person);
+        } else {
+            id = freeIds.remove(freeIds.size() - 1);
+            persons.set(id, person);
+        }
+        ids.put(person, id);
+        trigramIndex.add(person, id);
+        bitmapIndex.add(person, id);
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the index has not been built.
+     * {@code person} must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer id = isBuilt ? ids.remove(person) : null;
+        if (id == null) {
+            return;
+        }
+        trigramIndex.remove(person, id);
+        bitmapIndex.remove(person, id);
+        persons.set(id, null);
+        freeIds.add(id);
+    }
+
+    /**
+     * Returns a new, modifiable identity set of the persons that may match ALL of the fields in
+     * {@code fieldKeywords}, where a field matches if it contains ANY of its case-folded keywords.
+     * Returns an empty {@code Optional} if the index cannot narrow the search.
+     */
+    public Optional<Set<Person>> getCandidates(Map<Field, String[]> fieldKeywords) {
+        requireNonNull(fieldKeywords);
+        assert isBuilt;
+
+        // The exact-value bitmaps are combined first, as they are the cheapest to look up
+        CompressedBitmap candidates = null;
+        for (Map.Entry<Field, String[]> entry : fieldKeywords.entrySet()) {
+            if (BitmapIndex.isIndexed(entry.getKey())) {
+                candidates = and(candidates, bitmapIndex.getMatching(entry.getKey(), entry.getValue()));
+            }
+        }
+        for (Map.Entry<Field, String[]> entry : fieldKeywords.entrySet()) {
+            if (candidates != null && candidates.isEmpty()) {
+                break;
+            }
+            if (TrigramIndex.isIndexed(entry.getKey())) {
+                Optional<CompressedBitmap> fieldCandidates =
+                        trigramIndex.getCandidates(entry.getKey(), entry.getValue());
+                if (fieldCandidates.isPresent()) {
+                    candidates = and(candidates, fieldCandidates.get());
+                }
+            }
+        }
+        return Optional.ofNullable(candidates).map(this::toPersons);
+    }
+
+    /**
+     * Returns a new, modifiable identity set of the persons with the given ids.
+     */
+    private Set<Person> toPersons(CompressedBitmap personIds) {
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>(personIds.cardinality()));
+        personIds.forEach(id -> result.add(persons.get(id)));
+        return result;
+    }
+
+    private static CompressedBitmap and(CompressedBitmap candidates, CompressedBitmap fieldCandidates) {
+        return candidates == null ? fieldCandidates : CompressedBitmap.and(candidates, fieldCandidates);
+    }
+}
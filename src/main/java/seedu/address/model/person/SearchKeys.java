@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.commons.time.TimeFormatter;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Case-folded values of the searchable fields of a {@code Person}.
+ * Guarantees: immutable; computed once, when the person is created, except for the meeting texts which are only
+ * computed the first time they are needed, so that the meetings of the person are only loaded then.
+ */
+public class SearchKeys {
+
+    public final String name;
+    public final String email;
+    public final String country;
+    public final String company;
+    /** Null if the person has no link. */
+    public final String link;
+
+    private final String[] tags;
+    private final Supplier<List<Meeting>> meetings;
+    private volatile String[] meetingTexts;
+    private volatile String[] meetingDescriptions;
+
+    /**
+     * Computes the search keys of a person with the given fields.
+     * {@code link} may be null.
+     */
+    SearchKeys(Name name, Email email, HomeCountry country, Company company, Collection<Tag> tags, Link link,
+               Supplier<List<Meeting>> meetings) {
+        this.name = name.fullName.toLowerCase();
+        this.email = email.value.toLowerCase();
+        this.country = country.value.toLowerCase();
+        this.company = company.value.toLowerCase();
+        this.link = link == null ? null : link.value.toLowerCase();
+        this.tags = tags.stream().map(tag -> tag.tagName.toLowerCase()).toArray(String[]::new);
+        this.meetings = meetings;
+    }
+
+    public int getTagCount() {
+        return tags.length;
+    }
+
+    /**
+     * Returns the case-folded name of the {@code index}-th tag, in no particular order.
+     */
+    public String getTag(int index) {
+        return tags[index];
+    }
+
+    /**
+     * Returns the case-folded text of the {@code index}-th meeting, as it is displayed to the user.
+     */
+    public String getMeetingText(int index) {
+        String[] texts = meetingTexts;
+        if (texts == null) {
+            texts = meetings.get().stream().map(meeting -> meeting.toString().toLowerCase()).toArray(String[]::new);
+            meetingTexts = texts;
+        }
+        return texts[index];
+    }
+
+    /**
+     * Returns the case-folded description of the {@code index}-th meeting, or an empty string if it has none.
+     */
+    public String getMeetingDescription(int index) {
+        String[] descriptions = meetingDescriptions;
+        if (descriptions == null) {
+            descriptions = meetings.get().stream()
+                    .map(meeting -> meeting.getDescription().orElse("").toLowerCase())
+                    .toArray(String[]::new);
+            meetingDescriptions = descriptions;
+        }
+        return descriptions[index];
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An inverted index from the trigrams (substrings of three characters) of the name, email and link of persons
+ * to the ids of the persons whose field contains them.
+ * A value can only contain a keyword if it contains every trigram of the keyword, so the index can narrow a
+ * substring search down to a set of candidates that still need to be checked.
+ * Person ids are assigned by the {@link SearchIndex} the index belongs to.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<SearchIndex.Field, Map<Long, CompressedBitmap>> postings =
+            new EnumMap<>(SearchIndex.Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public TrigramIndex() {
+        postings.put(SearchIndex.Field.NAME, new HashMap<>());
+        postings.put(SearchIndex.Field.EMAIL, new HashMap<>());
+        postings.put(SearchIndex.Field.LINK, new HashMap<>());
+    }
+
+    /**
+     * Returns true if {@code field} is indexed by this index.
+     */
+    public static boolean isIndexed(SearchIndex.Field field) {
+        return field == SearchIndex.Field.NAME || field == SearchIndex.Field.EMAIL || field == SearchIndex.Field.LINK;
+    }
+
+    /**
+     * Discards the contents of the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+    }
+
+    /**
+     * Indexes the searchable fields of {@code person} under {@code id}.
+     */
+    public void add(Person person, int id) {
+        requireNonNull(person);
+        forEachValue(person, (field, value) -> {
+            Map<Long, CompressedBitmap> fieldPostings = postings.get(field);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                fieldPostings.computeIfAbsent(gramAt(value, i), gram -> new CompressedBitmap()).add(id);
+            }
+        });
+    }
+
+    /**
+     * Removes {@code person}, which was indexed under {@code id}, from the index.
+     */
+    public void remove(Person person, int id) {
+        requireNonNull(person);
+        forEachValue(person, (field, value) -> {
+            Map<Long, CompressedBitmap> fieldPostings = postings.get(field);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                long gram = gramAt(value, i);
+                CompressedBitmap posting = fieldPostings.get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the ids of the persons whose {@code field} may contain ANY of the case-folded {@code keywords}.
+     * Every person whose field contains one of the keywords is in the returned bitmap, which must not be modified.
+     * Returns an empty {@code Optional} if the index cannot narrow the search, i.e. if a keyword is shorter than
+     * a trigram.
+     */
+    public Optional<CompressedBitmap> getCandidates(SearchIndex.Field field, String[] keywords) {
+        requireNonNull(keywords);
+        assert isIndexed(field);
+
+        CompressedBitmap candidates = new CompressedBitmap();
+        for (String keyword : keywords) {
+            if (keyword.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            candidates = CompressedBitmap.or(candidates, getCandidates(postings.get(field), keyword));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the ids of the persons indexed under every trigram of {@code keyword}.
+     * The returned bitmap must not be modified.
+     */
+    private static CompressedBitmap getCandidates(Map<Long, CompressedBitmap> fieldPostings, String keyword) {
+        List<CompressedBitmap> keywordPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            CompressedBitmap posting = fieldPostings.get(gramAt(keyword, i));
+            if (posting == null) {
+                return new CompressedBitmap();
+            }
+            keywordPostings.add(posting);
+        }
+
+        // Intersect starting from the smallest posting to keep the intermediate results small
+        keywordPostings.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+        CompressedBitmap intersection = keywordPostings.get(0);
+        for (int i = 1; i < keywordPostings.size() && !intersection.isEmpty(); i++) {
+            intersection = CompressedBitmap.and(intersection, keywordPostings.get(i));
+        }
+        return intersection;
+    }
+
+    /**
+     * Calls {@code action} with each indexed field value of {@code person}.
+     */
+    private static void forEachValue(Person person, FieldValueConsumer action) {
+        SearchKeys searchKeys = person.getSearchKeys();
+        action.accept(SearchIndex.Field.NAME, searchKeys.name);
+        action.accept(SearchIndex.Field.EMAIL, searchKeys.email);
+        if (searchKeys.link != null) {
+            action.accept(SearchIndex.Field.LINK, searchKeys.link);
+        }
+    }
+
+    /**
+     * Packs the three characters of {@code value} starting at {@code index} into a single key.
+     */
+    private static long gramAt(String value, int index) {
+        return ((long) value.charAt(index) << 32) | ((long) value.charAt(index + 1) << 16) | value.charAt(index + 2);
+    }
+
+    /**
+     * Receives a field value of a person.
+     */
+    @FunctionalInterface
+    private interface FieldValueConsumer {
+        void accept(SearchIndex.Field field, String value);
+    }
+}
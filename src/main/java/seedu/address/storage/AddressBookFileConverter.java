@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the json and binary formats, e.g.
+ * {@code java -cp addressbook.jar seedu.address.storage.AddressBookFileConverter to-binary data/addressbook.json
+ * data/addressbook.bin}.
+ */
+public class AddressBookFileConverter {
+
+    public static final String COMMAND_TO_BINARY = "to-binary";
+    public static final String COMMAND_TO_JSON = "to-json";
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFileConverter (" + COMMAND_TO_BINARY + " | "
+            + COMMAND_TO_JSON + ") SOURCE_FILE TARGET_FILE";
+    public static final String MESSAGE_SUCCESS = "Converted %d persons from %s to %s";
+
+    private AddressBookFileConverter() {} // prevents instantiation
+
+    /**
+     * Converts the file named by {@code args}, printing the outcome. Exits with a non-zero status if it fails.
+     */
+    public static void main(String[] args) {
+        try {
+            System.out.println(convert(args));
+        } catch (IllegalArgumentException | IOException | DataLoadingException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Converts a data file as given by {@code args}: the conversion, the source file and the target file.
+     * Returns a message describing the conversion.
+     *
+     * @throws IllegalArgumentException if {@code args} do not describe a conversion.
+     * @throws DataLoadingException if the source file could not be read.
+     * @throws IOException if the source file does not exist, or the target file could not be written.
+     */
+    public static String convert(String... args) throws IOException, DataLoadingException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(MESSAGE_USAGE);
+        }
+        Path sourcePath = Paths.get(args[1]);
+        Path targetPath = Paths.get(args[2]);
+
+        AddressBookStorage source;
+        AddressBookStorage target;
+        switch (args[0]) {
+        case COMMAND_TO_BINARY:
+            source = new JsonAddressBookStorage(sourcePath);
+            target = new BinaryAddressBookStorage(targetPath);
+            break;
+        case COMMAND_TO_JSON:
+            source = new BinaryAddressBookStorage(sourcePath);
+            target = new JsonAddressBookStorage(targetPath);
+            break;
+        default:
+            throw new IllegalArgumentException(MESSAGE_USAGE);
+        }
+
+        ReadOnlyAddressBook addressBook = source.readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(sourcePath.toString()));
+        target.saveAddressBook(addressBook);
+        return String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(), sourcePath, targetPath);
+    }
+}
@@ -30,6 +30,29 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Reads the backup at {@code backupFilePath} of the data file at {@code filePath}, in place of the data file,
+     * which could not be read. By default, the backup is read like a data file of its own.
+     *
+     * @throws DataLoadingException if loading the backup failed.
+     */
+    default Optional<ReadOnlyAddressBook> readBackup(Path filePath, Path backupFilePath)
+            throws DataLoadingException {
+        return readAddressBook(backupFilePath);
+    }
+
+    /**
+     * Returns the persons that can still be read from the data file when {@link #readAddressBook()} fails to load
+     * it, moving the records that cannot be read out of the way to a quarantine file, and saving the data file
+     * with the persons recovered.
+     * Returns {@code Optional.empty()} if the storage file is not found, or if the storage cannot recover its data.
+     *
+     * @throws DataLoadingException if the data file could not be recovered.
+     */
+    default Optional<RecoveredAddressBook> recoverAddressBook() throws DataLoadingException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +65,36 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns true if saves to the data file are written in the background, some time after
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} returns, instead of before it returns.
+     */
+    default boolean isWrittenInBackground() {
+        return false;
+    }
+
+    /**
+     * Returns true if {@code addressBook}, as it is now, is the latest address book written to the data file in the
+     * background. Always false if saves are not written in the background.
+     * A failed background write is not reported here, but by the next save, so that the address book is still
+     * queued to be written when the failure is reported.
+     */
+    default boolean isWritten(ReadOnlyAddressBook addressBook) {
+        return false;
+    }
+
+    /**
+     * Waits for the saves to the data file that are written in the background, if any, to be written.
+     *
+     * @throws IOException if writing a save, or an earlier background write, failed.
+     */
+    default void flush() throws IOException {}
+
+    /**
+     * Releases what the storage keeps open between saves, such as a connection to a database.
+     *
+     * @throws IOException if closing failed.
+     */
+    default void close() throws IOException {}
+
 }
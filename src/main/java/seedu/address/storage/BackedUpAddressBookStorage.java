@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps a backup of the last good data file of the storage it wraps, and reads
+ * the backup when the data file cannot be read.
+ * The data file is backed up before it is saved over, if it is known to be good, i.e. it has been read or written
+ * by this storage. A data file that failed to load is therefore never backed up over a good backup.
+ *
+ * The wrapped storage must save by replacing the data file, e.g. with {@code FileUtil#writeAtomically}, rather than
+ * by writing into it, as the backup is a hard link to the data file where the file system allows it.
+ */
+public class BackedUpAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackedUpAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    /** True if the data file has been read or written successfully, so that it can be backed up. */
+    private boolean isDataFileGood = false;
+
+    /**
+     * Creates a {@code BackedUpAddressBookStorage} that backs up the data file of {@code storage}.
+     */
+    public BackedUpAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the path of the backup kept of the data file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".bak");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, reading the backup of {@code filePath} if it cannot be read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if neither the data file nor its backup could be loaded.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+            if (filePath.equals(getAddressBookFilePath())) {
+                isDataFileGood = addressBook.isPresent();
+            }
+            return addressBook;
+        } catch (DataLoadingException e) {
+            Path backupFilePath = getBackupFilePath(filePath);
+            if (!Files.exists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading backup " + backupFilePath);
+            try {
+                return storage.readBackup(filePath, backupFilePath);
+            } catch (DataLoadingException backupException) {
+                e.addSuppressed(backupException);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Recovers the data file of the wrapped storage, which is then not backed up when it is next saved over, as its
+     * unreadable records have been moved to a quarantine file instead.
+     */
+    @Override
+    public Optional<RecoveredAddressBook> recoverAddressBook() throws DataLoadingException {
+        return storage.recoverAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only backs up the data file if {@code filePath} is the file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isDataFile = filePath.equals(getAddressBookFilePath());
+        if (isDataFile && isDataFileGood) {
+            backUp(filePath);
+        }
+        storage.saveAddressBook(addressBook, filePath);
+        if (isDataFile) {
+            isDataFileGood = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+
+    /**
+     * Makes the data file at {@code filePath} the backup. Failing to do so does not stop the data file from
+     * being saved, so it is only logged.
+     */
+    private static void backUp(Path filePath) {
+        Path backupFilePath = getBackupFilePath(filePath);
+        try {
+            Files.deleteIfExists(backupFilePath);
+            try {
+                Files.createLink(backupFilePath, filePath);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(filePath, backupFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to back up " + filePath + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,646 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeCountry;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.MeetingLoader;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes address books in the compact binary format of {@link BinaryAddressBookStorage}.
+ *
+ * The data starts with {@link #MAGIC} and a format version byte, followed by records. Each record is written as
+ * its length, its bytes and the CRC-32 checksum of its bytes, so that corruption is detected record by record:
+ * <ol>
+ *     <li>a header record, with the number of persons, the layout flags and a dictionary of the distinct
+ *     companies, countries and tags, which persons refer to by their position in the dictionary;</li>
+ *     <li>one record per person;</li>
+ *     <li>if the layout has meeting blocks, one record per person with the meetings of the person.</li>
+ * </ol>
+ * Without meeting blocks, the meetings of a person are written at the end of its record. With them, the record
+ * ends with the times of the meetings and the length of its meeting block instead, so that the persons can be read
+ * without their meetings, which are loaded from the file by a {@link MeetingBlock} when they are first needed, while
+ * meeting clashes are still checked without loading them.
+ * Numbers are written as unsigned LEB128 varints, and strings as their UTF-8 length followed by their bytes.
+ * Meeting times are written to the second, as the zigzag-encoded difference from the previous meeting of the
+ * person, so that each usually takes a few bytes.
+ */
+class BinaryAddressBookCodec {
+
+    /** The bytes that start every address book in this format. */
+    static final byte[] MAGIC = {'W', 'F', 'A', 'B'};
+    static final int VERSION = 3;
+    /** The version before meeting times were kept in the person records of the layout with meeting blocks. */
+    static final int VERSION_WITHOUT_MEETING_TIMES = 2;
+    /** The first version, which has no layout flags and always has the meetings in the person records. */
+    static final int VERSION_WITHOUT_LAYOUT = 1;
+
+    static final String MESSAGE_NOT_BINARY = "Not a binary address book";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    static final String MESSAGE_CORRUPTED_RECORD = "Record %d of the address book is corrupted";
+    static final String MESSAGE_MISSING_DICTIONARY_ENTRY = "Record %d refers to a missing dictionary entry";
+    static final String MESSAGE_INVALID_MEETING_TIME = "Meeting time is out of range";
+    static final String MESSAGE_TRAILING_DATA = "Unexpected data after the last record";
+    static final String MESSAGE_MEETING_BLOCKS_NEED_FILE = "Meeting blocks can only be read from a file";
+    static final String MESSAGE_CORRUPTED_MEETING_BLOCK = "Meetings at byte %d of the address book are corrupted";
+
+    /** Records longer than this are taken to be corrupted rather than allocated. */
+    private static final int MAX_RECORD_LENGTH = 1 << 24;
+    private static final int FLAG_FLAGGED = 1;
+    private static final int FLAG_HAS_LINK = 2;
+    private static final int LAYOUT_INLINE_MEETINGS = 0;
+    private static final int LAYOUT_MEETING_BLOCKS = 1;
+
+    private BinaryAddressBookCodec() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code prefix}, the first bytes of some data, starts with {@link #MAGIC}.
+     */
+    static boolean hasMagic(byte[] prefix) {
+        return prefix.length >= MAGIC.length
+                && Arrays.equals(prefix, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, with the meetings of each person in its record.
+     * Does not flush or close {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        RecordWriter record = new RecordWriter();
+        Map<String, Integer> dictionary = writeHeader(persons, LAYOUT_INLINE_MEETINGS, record, out);
+        for (Person person : persons) {
+            writePerson(person, dictionary, record);
+            writeMeetings(person.getMeetings(), record);
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, with the meetings of each person in a meeting block.
+     * Does not flush or close {@code out}.
+     * The meetings of persons that have not been loaded from their {@link MeetingBlock} are copied from it without
+     * being loaded, and the block is put in {@code copiedBlocks} with the position of its copy in {@code out}.
+     */
+    static void writeWithMeetingBlocks(ReadOnlyAddressBook addressBook, OutputStream out,
+                                       Map<MeetingBlock, Long> copiedBlocks) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+
+        // The person records hold the length of each block, so the blocks of loaded meetings are encoded first
+        MeetingBlock[] pendingBlocks = new MeetingBlock[persons.size()];
+        byte[][] encodedBlocks = new byte[persons.size()][];
+        RecordWriter blockRecord = new RecordWriter();
+        ByteArrayOutputStream encodedBlock = new ByteArrayOutputStream();
+        for (int i = 0; i < persons.size(); i++) {
+            Optional<MeetingLoader> loader = persons.get(i).getPendingMeetingLoader();
+            if (loader.isPresent() && loader.get() instanceof MeetingBlock block) {
+                pendingBlocks[i] = block;
+            } else {
+                writeMeetings(persons.get(i).getMeetings(), blockRecord);
+                blockRecord.writeTo(encodedBlock);
+                encodedBlocks[i] = encodedBlock.toByteArray();
+                encodedBlock.reset();
+            }
+        }
+
+        RecordWriter record = new RecordWriter();
+        Map<String, Integer> dictionary = writeHeader(persons, LAYOUT_MEETING_BLOCKS, record, out);
+        for (int i = 0; i < persons.size(); i++) {
+            writePerson(persons.get(i), dictionary, record);
+            writeMeetingTimes(persons.get(i).getMeetingTimes(), record);
+            record.writeVarint(pendingBlocks[i] != null ? pendingBlocks[i].getLength() : encodedBlocks[i].length);
+            record.writeTo(out);
+        }
+
+        long position = MAGIC.length + 1 + record.getBytesWritten();
+        for (int i = 0; i < persons.size(); i++) {
+            if (pendingBlocks[i] != null) {
+                byte[] block = pendingBlocks[i].readBytes();
+                out.write(block);
+                copiedBlocks.put(pendingBlocks[i], position);
+                position += block.length;
+            } else {
+                out.write(encodedBlocks[i]);
+                position += encodedBlocks[i].length;
+            }
+        }
+    }
+
+    /**
+     * Writes the start of the data, up to and including the header record, with {@code record}, and returns the
+     * dictionary of the header, with the position of each entry.
+     */
+    private static Map<String, Integer> writeHeader(List<Person> persons, int layout, RecordWriter record,
+                                                    OutputStream out) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            dictionary.putIfAbsent(person.getCompany().value, dictionary.size());
+            dictionary.putIfAbsent(person.getCountry().value, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        out.write(MAGIC);
+        out.write(VERSION);
+
+        record.writeVarint(persons.size());
+        record.writeVarint(layout);
+        record.writeVarint(dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            record.writeString(entry);
+        }
+        record.writeTo(out);
+        return dictionary;
+    }
+
+    private static void writePerson(Person person, Map<String, Integer> dictionary, RecordWriter record) {
+        record.writeString(person.getName().fullName);
+        record.writeString(person.getPhone().value);
+        record.writeString(person.getEmail().value);
+        record.writeVarint(dictionary.get(person.getCountry().value));
+        record.writeVarint(dictionary.get(person.getCompany().value));
+        Link link = person.getLink();
+        record.writeVarint((person.isFlagged() ? FLAG_FLAGGED : 0) | (link != null ? FLAG_HAS_LINK : 0));
+        if (link != null) {
+            record.writeString(link.value);
+        }
+
+        Set<Tag> tags = person.getTags();
+        record.writeVarint(tags.size());
+        for (Tag tag : tags) {
+            record.writeVarint(dictionary.get(tag.tagName));
+        }
+    }
+
+    private static void writeMeetings(List<Meeting> meetings, RecordWriter record) {
+        record.writeVarint(meetings.size());
+        long previousTime = 0;
+        for (Meeting meeting : meetings) {
+            long time = meeting.getMeetingTime().toEpochSecond(ZoneOffset.UTC);
+            record.writeVarlong(zigzag(time - previousTime));
+            previousTime = time;
+            // 0 marks a missing description, so that the length of an empty one is still distinguishable
+            String description = meeting.getDescription().orElse(null);
+            if (description == null) {
+                record.writeVarint(0);
+            } else {
+                byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+                record.writeVarint(bytes.length + 1);
+                record.write(bytes);
+            }
+        }
+    }
+
+    private static void writeMeetingTimes(List<LocalDateTime> meetingTimes, RecordWriter record) {
+        record.writeVarint(meetingTimes.size());
+        long previousTime = 0;
+        for (LocalDateTime meetingTime : meetingTimes) {
+            long time = meetingTime.toEpochSecond(ZoneOffset.UTC);
+            record.writeVarlong(zigzag(time - previousTime));
+            previousTime = time;
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}, which must hold nothing else. Does not close {@code in}.
+     *
+     * @throws IOException if the data could not be read or is not in this format, or has meeting blocks.
+     * @throws IllegalValueException if a record is corrupted, or there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        return read(in, null);
+    }
+
+    /**
+     * Reads an address book from {@code in}, which reads {@code file} from its start. Does not close {@code in}.
+     * Meeting blocks are not read, but left to be loaded from {@code file} when they are needed, in which case
+     * {@code file} must be left open. {@code file} may be null if the data has no meeting blocks.
+     *
+     * @throws IOException if the data could not be read or is not in this format.
+     * @throws IllegalValueException if a record is corrupted, or there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in, FileChannel file) throws IOException, IllegalValueException {
+        if (!hasMagic(in.readNBytes(MAGIC.length))) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.read();
+        if (version != VERSION && version != VERSION_WITHOUT_MEETING_TIMES && version != VERSION_WITHOUT_LAYOUT) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        RecordReader record = new RecordReader();
+        record.readFrom(in, 0);
+        int personCount = record.readVarint();
+        boolean hasMeetingBlocks = version != VERSION_WITHOUT_LAYOUT
+                && (record.readVarint() & LAYOUT_MEETING_BLOCKS) != 0;
+        if (hasMeetingBlocks && file == null) {
+            throw new IOException(MESSAGE_MEETING_BLOCKS_NEED_FILE);
+        }
+        String[] dictionary = new String[record.readCount()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = record.readString();
+        }
+
+        PersonDecoder decoder = new PersonDecoder(dictionary, hasMeetingBlocks ? file : null,
+                version != VERSION_WITHOUT_MEETING_TIMES);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= personCount; i++) {
+            record.readFrom(in, i);
+            persons.add(decoder.decode(record));
+        }
+        if (hasMeetingBlocks) {
+            // The blocks start after the person records, so their positions are only known now
+            long position = MAGIC.length + 1 + record.getBytesRead();
+            for (MeetingBlock block : decoder.getMeetingBlocks()) {
+                block.moveTo(file, position);
+                position += block.getLength();
+            }
+            if (position != file.size()) {
+                throw new EOFException(String.format(MESSAGE_CORRUPTED_MEETING_BLOCK, position));
+            }
+        } else if (in.read() != -1) {
+            throw new IOException(MESSAGE_TRAILING_DATA);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads the meetings in {@code block}, a meeting block record found at byte {@code position} of the data.
+     *
+     * @throws IOException if the block is corrupted or there were any data constraints violated.
+     */
+    static List<Meeting> readMeetingBlock(byte[] block, long position) throws IOException {
+        RecordReader record = new RecordReader();
+        try {
+            record.readFrom(new ByteArrayInputStream(block), 0);
+            List<Meeting> meetings = readMeetings(record);
+            if (record.getBytesRead() != block.length) {
+                throw record.corrupted();
+            }
+            return meetings;
+        } catch (IllegalValueException | IllegalArgumentException | EOFException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_MEETING_BLOCK, position), e);
+        }
+    }
+
+    private static List<Meeting> readMeetings(RecordReader record) throws IllegalValueException {
+        int meetingCount = record.readCount();
+        List<Meeting> meetings = new ArrayList<>(meetingCount);
+        long time = 0;
+        for (int i = 0; i < meetingCount; i++) {
+            time += unzigzag(record.readVarlong());
+            int descriptionLength = record.readVarint();
+            String description = descriptionLength == 0 ? null : record.readString(descriptionLength - 1);
+            meetings.add(new Meeting(toMeetingTime(time), description));
+        }
+        return meetings;
+    }
+
+    private static List<LocalDateTime> readMeetingTimes(RecordReader record) throws IllegalValueException {
+        int meetingCount = record.readCount();
+        List<LocalDateTime> meetingTimes = new ArrayList<>(meetingCount);
+        long time = 0;
+        for (int i = 0; i < meetingCount; i++) {
+            time += unzigzag(record.readVarlong());
+            meetingTimes.add(toMeetingTime(time));
+        }
+        return meetingTimes;
+    }
+
+    private static LocalDateTime toMeetingTime(long epochSecond) throws IllegalValueException {
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_MEETING_TIME, e);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Converts person records into the model's {@code Person}, validating and creating the company, country and
+     * tag of each dictionary entry only once, so that persons share them.
+     */
+    private static class PersonDecoder {
+        private final String[] dictionary;
+        private final Company[] companies;
+        private final HomeCountry[] countries;
+        private final Tag[] tags;
+        /** The file of the meeting blocks, or null if the meetings are in the person records. */
+        private final FileChannel file;
+        /** Whether the person records with meeting blocks hold the times of the meetings. */
+        private final boolean hasMeetingTimes;
+        private final List<MeetingBlock> meetingBlocks = new ArrayList<>();
+
+        PersonDecoder(String[] dictionary, FileChannel file, boolean hasMeetingTimes) {
+            this.dictionary = dictionary;
+            this.file = file;
+            this.hasMeetingTimes = hasMeetingTimes;
+            companies = new Company[dictionary.length];
+            countries = new HomeCountry[dictionary.length];
+            tags = new Tag[dictionary.length];
+        }
+
+        /**
+         * Returns the meeting blocks of the decoded persons, in order, which are yet to be given their position.
+         */
+        List<MeetingBlock> getMeetingBlocks() {
+            return meetingBlocks;
+        }
+
+        /**
+         * Decodes the person in {@code record}.
+         * The values are validated by their constructors only, instead of checking them beforehand as well.
+         */
+        Person decode(RecordReader record) throws IllegalValueException {
+            try {
+                Name name = new Name(record.readString());
+                Phone phone = new Phone(record.readString());
+                Email email = new Email(record.readString());
+                HomeCountry country = countryAt(entryIndex(record));
+                Company company = companyAt(entryIndex(record));
+
+                int flags = record.readVarint();
+                Link link = (flags & FLAG_HAS_LINK) != 0 ? new Link(record.readString()) : null;
+
+                int tagCount = record.readCount();
+                Set<Tag> personTags = new HashSet<>();
+                for (int i = 0; i < tagCount; i++) {
+                    personTags.add(tagAt(entryIndex(record)));
+                }
+
+                boolean isFlagged = (flags & FLAG_FLAGGED) != 0;
+                if (file == null) {
+                    return new Person(name, phone, email, country, company, personTags, isFlagged,
+                            readMeetings(record), link);
+                }
+                List<LocalDateTime> meetingTimes = hasMeetingTimes ? readMeetingTimes(record) : null;
+                MeetingBlock block = new MeetingBlock(file, 0, record.readVarint());
+                meetingBlocks.add(block);
+                if (meetingTimes == null) {
+                    return new Person(name, phone, email, country, company, personTags, isFlagged, block, link);
+                }
+                return new Person(name, phone, email, country, company, personTags, isFlagged, meetingTimes, block,
+                        link);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+        }
+
+        private int entryIndex(RecordReader record) throws IllegalValueException {
+            int index = record.readVarint();
+            if (index >= dictionary.length) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_MISSING_DICTIONARY_ENTRY, record.getRecordNumber()));
+            }
+            return index;
+        }
+
+        private HomeCountry countryAt(int index) {
+            if (countries[index] == null) {
+                countries[index] = new HomeCountry(dictionary[index]);
+            }
+            return countries[index];
+        }
+
+        private Company companyAt(int index) {
+            if (companies[index] == null) {
+                companies[index] = new Company(dictionary[index]);
+            }
+            return companies[index];
+        }
+
+        private Tag tagAt(int index) {
+            if (tags[index] == null) {
+                tags[index] = new Tag(dictionary[index]);
+            }
+            return tags[index];
+        }
+    }
+
+    /**
+     * Builds a record in memory, then writes it out framed with its length and checksum.
+     */
+    private static class RecordWriter {
+        private final CRC32 checksum = new CRC32();
+        private byte[] bytes = new byte[256];
+        private int length = 0;
+        private long bytesWritten = 0;
+
+        /**
+         * Returns the number of bytes written out by {@link #writeTo(OutputStream)} so far.
+         */
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        void writeVarint(int value) {
+            writeVarlong(Integer.toUnsignedLong(value));
+        }
+
+        void writeVarlong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(encoded.length);
+            write(encoded);
+        }
+
+        void write(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, bytes, length, values.length);
+            length += values.length;
+        }
+
+        /**
+         * Writes the record to {@code out} and starts a new, empty record.
+         */
+        void writeTo(OutputStream out) throws IOException {
+            checksum.reset();
+            checksum.update(bytes, 0, length);
+            long recordChecksum = checksum.getValue();
+
+            // The length is encoded after the bytes of the record, to be written out before them
+            int recordLength = length;
+            writeVarint(recordLength);
+            out.write(bytes, recordLength, length - recordLength);
+            out.write(bytes, 0, recordLength);
+            out.write(new byte[] {(byte) (recordChecksum >>> 24), (byte) (recordChecksum >>> 16),
+                (byte) (recordChecksum >>> 8), (byte) recordChecksum});
+            bytesWritten += length + 4;
+            length = 0;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads records, verifying their checksums, and the values in the current record.
+     */
+    private static class RecordReader {
+        private final CRC32 checksum = new CRC32();
+        private byte[] bytes = new byte[256];
+        private int length = 0;
+        private int position = 0;
+        private int recordNumber;
+        private long bytesRead = 0;
+
+        int getRecordNumber() {
+            return recordNumber;
+        }
+
+        /**
+         * Returns the number of bytes of the records read so far.
+         */
+        long getBytesRead() {
+            return bytesRead;
+        }
+
+        /**
+         * Reads the next record from {@code in}, which is record number {@code recordNumber} of the data.
+         */
+        void readFrom(InputStream in, int recordNumber) throws IOException, IllegalValueException {
+            this.recordNumber = recordNumber;
+            long recordLength = readVarlong(in);
+            if (recordLength > MAX_RECORD_LENGTH) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, recordNumber));
+            }
+            length = (int) recordLength;
+            position = 0;
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(bytes.length * 2, length)];
+            }
+            byte[] expectedChecksum = new byte[4];
+            if (in.readNBytes(bytes, 0, length) != length || in.readNBytes(expectedChecksum, 0, 4) != 4) {
+                throw new EOFException(String.format(MESSAGE_CORRUPTED_RECORD, recordNumber));
+            }
+
+            checksum.reset();
+            checksum.update(bytes, 0, length);
+            long actualChecksum = checksum.getValue();
+            for (int i = 0; i < 4; i++) {
+                if (expectedChecksum[i] != (byte) (actualChecksum >>> (24 - 8 * i))) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, recordNumber));
+                }
+            }
+            bytesRead += length + 4;
+        }
+
+        int readVarint() throws IllegalValueException {
+            long value = readVarlong();
+            if (value > Integer.MAX_VALUE) {
+                throw corrupted();
+            }
+            return (int) value;
+        }
+
+        long readVarlong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= length) {
+                    throw corrupted();
+                }
+                byte next = bytes[position++];
+                value |= (long) (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw corrupted();
+        }
+
+        /**
+         * Reads the number of values that follow, each of which takes at least a byte.
+         */
+        int readCount() throws IllegalValueException {
+            int count = readVarint();
+            if (count > length - position) {
+                throw corrupted();
+            }
+            return count;
+        }
+
+        String readString() throws IllegalValueException {
+            return readString(readVarint());
+        }
+
+        String readString(int byteLength) throws IllegalValueException {
+            if (byteLength > length - position) {
+                throw corrupted();
+            }
+            String value = new String(bytes, position, byteLength, StandardCharsets.UTF_8);
+            position += byteLength;
+            return value;
+        }
+
+        IllegalValueException corrupted() {
+            return new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, recordNumber));
+        }
+
+        private long readVarlong(InputStream in) throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int next = in.read();
+                if (next == -1) {
+                    throw new EOFException();
+                }
+                bytesRead++;
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed record length");
+        }
+    }
+}
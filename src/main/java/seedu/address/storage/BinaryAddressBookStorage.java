@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ * See {@link BinaryAddressBookCodec} for the format.
+ *
+ * A data file that is not in the binary format is read as a json file, so that existing data is kept when
+ * switching to this storage. It is rewritten in the binary format when next saved.
+ *
+ * If meetings are loaded lazily, the meetings of each person are saved in a separate meeting block, and only the
+ * other details of persons are read when the address book is read. The meetings of a person are then read from
+ * the data file when they are first needed, see {@link MeetingBlock}. A data file with meeting blocks is always
+ * read this way, whichever way this storage saves.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private Path filePath;
+    private final boolean isMeetingLoadingLazy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data at {@code filePath}, which saves the meetings of
+     * persons to be loaded lazily if {@code isMeetingLoadingLazy} is true.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMeetingLoadingLazy) {
+        this.filePath = filePath;
+        this.isMeetingLoadingLazy = isMeetingLoadingLazy;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        FileChannel file = null;
+        boolean isFileInUse = false;
+        try {
+            file = FileChannel.open(filePath, StandardOpenOption.READ);
+            // Not closed, as closing it would close the file, which meeting blocks may go on to read from
+            InputStream in = new BufferedInputStream(Channels.newInputStream(file), BUFFER_SIZE);
+            in.mark(BinaryAddressBookCodec.MAGIC.length);
+            boolean isBinary = BinaryAddressBookCodec.hasMagic(in.readNBytes(BinaryAddressBookCodec.MAGIC.length));
+            in.reset();
+            if (isBinary) {
+                logger.info("Binary file " + filePath + " found.");
+                AddressBook addressBook = BinaryAddressBookCodec.read(in, file);
+                isFileInUse = addressBook.getPersonList().stream()
+                        .anyMatch(person -> person.getPendingMeetingLoader().isPresent());
+                return Optional.of(addressBook);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } finally {
+            if (file != null && !isFileInUse) {
+                close(file, filePath);
+            }
+        }
+
+        logger.info(filePath + " is not in the binary format, reading it as a json file.");
+        return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!isMeetingLoadingLazy) {
+            FileUtil.writeAtomically(filePath, out -> BinaryAddressBookCodec.write(addressBook, out));
+            return;
+        }
+
+        Map<MeetingBlock, Long> copiedBlocks = new HashMap<>();
+        FileUtil.writeAtomically(filePath, out ->
+                BinaryAddressBookCodec.writeWithMeetingBlocks(addressBook, out, copiedBlocks));
+        if (copiedBlocks.isEmpty()) {
+            return;
+        }
+        // The blocks are moved to their copies, so that the file they were read from can be closed
+        try {
+            FileChannel file = FileChannel.open(filePath, StandardOpenOption.READ);
+            copiedBlocks.forEach((block, position) -> block.moveTo(file, position));
+        } catch (IOException e) {
+            logger.warning("Failed to reopen " + filePath + ", meetings are still read from the replaced file: " + e);
+        }
+    }
+
+    private static void close(FileChannel file, Path filePath) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close " + filePath + ": " + e);
+        }
+    }
+
+}
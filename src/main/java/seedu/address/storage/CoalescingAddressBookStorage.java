@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.AddressBookSnapshot.sourceOf;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves to its data file on a background writer thread.
+ * Saving takes a snapshot of the address book and hands it to the writer, which writes it to the wrapped storage
+ * once the save window has passed. Snapshots saved within the same window are coalesced, so that only the latest
+ * one is written.
+ *
+ * A failed background write is reported by throwing its exception from the next save or {@link #flush()}, after
+ * that save has queued its own snapshot. The snapshot that failed is kept pending, and written again with the
+ * next save or flush, unless a newer snapshot is pending by then. A failure is no longer reported once a later
+ * snapshot has been written. Saves to other files are written synchronously, after any pending save.
+ */
+public class CoalescingAddressBookStorage implements AddressBookStorage, AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(CoalescingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final long saveWindowMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The latest snapshot that has yet to be written, or null if there is none. */
+    private ReadOnlyAddressBook pendingSnapshot;
+    /** Whether a write of the pending snapshot has been scheduled. */
+    private boolean isWriteScheduled;
+    /** The address book that the last written snapshot was taken of, or null if none has been written. */
+    private ReadOnlyAddressBook writtenAddressBook;
+    /** The version of the last written snapshot. */
+    private long writtenVersion;
+    /** The exception thrown by the last background write, if it has not been reported yet. */
+    private IOException writeFailure;
+
+    /**
+     * Creates a {@code CoalescingAddressBookStorage} that writes to {@code storage} at most once per
+     * {@code saveWindowMillis}.
+     */
+    public CoalescingAddressBookStorage(AddressBookStorage storage, long saveWindowMillis) {
+        requireNonNull(storage);
+        assert saveWindowMillis >= 0;
+        this.storage = storage;
+        this.saveWindowMillis = saveWindowMillis;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<RecoveredAddressBook> recoverAddressBook() throws DataLoadingException {
+        return storage.recoverAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves in the background if {@code filePath} is the file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if an earlier background write failed, or writing to another file failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            flush();
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (this) {
+            // A snapshot of the same version is already pending when the write of it failed and was not retried yet
+            if (!isSameVersion(pendingSnapshot, addressBook)) {
+                pendingSnapshot = addressBook.snapshot();
+            }
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writePendingSnapshot, saveWindowMillis, TimeUnit.MILLISECONDS);
+            } else {
+                logger.fine("Coalesced save of address book into pending save");
+            }
+            // Reported after queueing the snapshot, so that this save is still written when the failure is reported
+            reportWriteFailure();
+        }
+    }
+
+    @Override
+    public boolean isWrittenInBackground() {
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isWritten(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return writtenAddressBook == sourceOf(addressBook) && writtenVersion == addressBook.getVersion();
+    }
+
+    /**
+     * Writes any pending snapshot, waiting for it to be written.
+     *
+     * @throws IOException if writing the pending snapshot, or an earlier background write, failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        synchronized (this) {
+            reportWriteFailure();
+        }
+    }
+
+    /**
+     * Writes any pending snapshot, stops the writer thread and closes the wrapped storage. Does nothing if already
+     * closed.
+     *
+     * @throws IOException if writing the pending snapshot, an earlier background write, or closing failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer.isShutdown()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+            storage.close();
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, to the wrapped storage. Runs on the writer thread.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            synchronized (this) {
+                writtenAddressBook = sourceOf(snapshot);
+                writtenVersion = snapshot.getVersion();
+                // The snapshot of an earlier failure is superseded by this one
+                writeFailure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e);
+            synchronized (this) {
+                writeFailure = e;
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = snapshot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code snapshot} is a snapshot of {@code addressBook} as it is now.
+     */
+    private static boolean isSameVersion(ReadOnlyAddressBook snapshot, ReadOnlyAddressBook addressBook) {
+        return snapshot != null && sourceOf(snapshot) == sourceOf(addressBook)
+                && snapshot.getVersion() == addressBook.getVersion();
+    }
+
+    /**
+     * Throws the exception of the last failed background write, if it has not been reported yet.
+     */
+    private void reportWriteFailure() throws IOException {
+        assert Thread.holdsLock(this);
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+}
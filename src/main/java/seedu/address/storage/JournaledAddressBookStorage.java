@@ -0,0 +1,340 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.AddressBookSnapshot.sourceOf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot with a write-ahead journal on the hard disk.
+ * Saving appends the changes made to the address book since it was last saved to the journal, one compact json
+ * record per line, instead of rewriting the whole snapshot. The snapshot is rewritten, and the journal started
+ * afresh, when the journal grows long or the changes are not known.
+ * Reading replays the journal over the snapshot.
+ *
+ * When the address book does not record its changes since the last save, such as on the first save after the
+ * data was read, the changes are found by comparing its persons with those last saved or read instead.
+ *
+ * The journal starts with the checksum of the snapshot it applies to, so that a journal left behind by an
+ * interrupted snapshot rewrite is not replayed over the new snapshot.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    /** The number of journal records after which the snapshot is rewritten. */
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    public static final String MESSAGE_INVALID_CHANGE_INDEX = "Journal change at line %d does not fit the persons";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    /**
+     * The address book last saved to the file, or the address book it was a snapshot of,
+     * whose later changes can be appended to the journal.
+     */
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedVersion;
+    /** The persons last saved to or read from the file, or null if the journal cannot be appended to. */
+    private List<Person> savedPersons;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the snapshot at {@code filePath}, which compresses the
+     * snapshot with gzip if {@code isCompressed} is true. The journal is never compressed, as it is appended to.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompressed) {
+        super(filePath, isCompressed);
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, replaying the journal kept alongside {@code filePath}, if any.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            savedPersons = null;
+        }
+        return readWithJournal(filePath, getJournalFilePath(filePath), false);
+    }
+
+    /**
+     * Reads the backup at {@code backupFilePath} in place of the snapshot at {@code filePath}, replaying the journal
+     * of the snapshot over the backup if the journal was started for a snapshot the same as the backup. This is the
+     * case unless the snapshot was rewritten since it was last backed up. Otherwise, the changes in the journal
+     * cannot be replayed, and are lost, which is logged.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackup(Path filePath, Path backupFilePath)
+            throws DataLoadingException {
+        requireAllNonNull(filePath, backupFilePath);
+        return readWithJournal(backupFilePath, getJournalFilePath(filePath), true);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journal at {@code journalFilePath} over it, if the
+     * journal exists and was started for the snapshot. {@code isBackup} tells if the snapshot is a backup, whose
+     * journal was kept for the snapshot it is the backup of.
+     * Records the persons read as saved if {@code filePath} is the file of this storage.
+     */
+    private Optional<ReadOnlyAddressBook> readWithJournal(Path filePath, Path journalFilePath, boolean isBackup)
+            throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = super.readAddressBook(filePath);
+        if (snapshot.isEmpty() || !Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<String> records;
+        try {
+            records = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            if (records.isEmpty() || readHeader(records.get(0)) != checksumOf(filePath)) {
+                if (isBackup && records.size() > 1) {
+                    logger.warning("Discarding the " + (records.size() - 1) + " changes in journal "
+                            + journalFilePath + " as they were not made to backup " + filePath
+                            + ". The changes saved since the backup are lost.");
+                } else {
+                    logger.warning("Ignoring journal " + journalFilePath + " as it does not match " + filePath);
+                }
+                return snapshot;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        boolean isJournalComplete = true;
+        for (int i = 1; i < records.size(); i++) {
+            AddressBookChange change;
+            try {
+                change = JsonUtil.fromJsonString(records.get(i), JsonAdaptedAddressBookChange.class).toModelType();
+            } catch (IOException e) {
+                if (i == records.size() - 1) {
+                    // The last record may have been cut short by a crash while it was being appended
+                    logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                    isJournalComplete = false;
+                    break;
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+
+            if (!apply(change, persons)) {
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_CHANGE_INDEX, i + 1)));
+            }
+        }
+        logger.info("Replayed " + (records.size() - 1) + " journal records from " + journalFilePath);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        if (filePath.equals(getAddressBookFilePath()) && isJournalComplete) {
+            savedPersons = Collections.unmodifiableList(persons);
+            journalRecordCount = records.size() - 1;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Similar to {@link JsonAddressBookStorage#recoverAddressBook()}, but only recovers the snapshot if the journal
+     * has no records to replay over it, as the records would not fit the persons left once unreadable ones are
+     * moved out of the snapshot.
+     */
+    @Override
+    public Optional<RecoveredAddressBook> recoverAddressBook() throws DataLoadingException {
+        Path filePath = getAddressBookFilePath();
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            if (Files.exists(filePath) && Files.exists(journalFilePath)) {
+                List<String> records = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+                if (records.size() > 1 && readHeader(records.get(0)) == checksumOf(filePath)) {
+                    logger.warning("Not recovering " + filePath + " as journal " + journalFilePath
+                            + " has records to replay over it");
+                    return Optional.empty();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return super.recoverAddressBook();
+    }
+
+    /**
+     * Applies {@code change} to {@code persons}.
+     * Returns false if the position of the change is not in {@code persons}.
+     */
+    private static boolean apply(AddressBookChange change, List<Person> persons) {
+        int index = change.getIndex();
+        switch (change.getType()) {
+        case ADD:
+            if (index > persons.size()) {
+                return false;
+            }
+            persons.add(index, change.getPerson());
+            return true;
+        case SET:
+            if (index >= persons.size()) {
+                return false;
+            }
+            persons.set(index, change.getPerson());
+            return true;
+        case REMOVE:
+            if (index >= persons.size()) {
+                return false;
+            }
+            persons.remove(index);
+            return true;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the journal if {@code filePath} is the file of this storage; other files are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook source = sourceOf(addressBook);
+        Optional<List<AddressBookChange>> changes = source == savedAddressBook
+                ? addressBook.getChangesSince(savedVersion)
+                : Optional.empty();
+        if (changes.isEmpty() && savedPersons != null && (savedAddressBook == null || source == savedAddressBook)) {
+            // Persons are immutable, so those left unchanged since the last save are the same instances
+            changes = AddressBookChange.diff(savedPersons, addressBook.getPersonList(),
+                    COMPACTION_THRESHOLD - journalRecordCount);
+        }
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (changes.isEmpty() || journalRecordCount + changes.get().size() > COMPACTION_THRESHOLD
+                || !Files.exists(journalFilePath)) {
+            saveSnapshot(addressBook, filePath);
+        } else if (!changes.get().isEmpty()) {
+            appendToJournal(changes.get(), journalFilePath);
+        }
+        savedAddressBook = source;
+        savedVersion = addressBook.getVersion();
+        // A snapshot, which is what the background writer saves, is kept as it is instead of being copied again
+        savedPersons = addressBook.snapshot().getPersonList();
+    }
+
+    /**
+     * Rewrites the snapshot at {@code filePath} with {@code addressBook} and starts a new journal for it.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        savedAddressBook = null;
+        savedPersons = null;
+
+        super.saveAddressBook(addressBook, filePath);
+
+        String header = JsonUtil.toCompactJsonString(new JournalHeader(checksumOf(filePath)))
+                + System.lineSeparator();
+        FileUtil.writeToFile(getJournalFilePath(filePath), header);
+        journalRecordCount = 0;
+        logger.fine("Rewrote snapshot " + filePath);
+    }
+
+    /**
+     * Appends {@code changes} to the journal at {@code journalFilePath}, forcing them to the disk before returning,
+     * as the save is reported as done once they are appended.
+     */
+    private void appendToJournal(List<AddressBookChange> changes, Path journalFilePath) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookChange(change)))
+                    .append(System.lineSeparator());
+        }
+
+        try {
+            FileUtil.append(journalFilePath, records.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The journal may now end with a partial record, so the next save has to rewrite the snapshot
+            savedAddressBook = null;
+            savedPersons = null;
+            throw e;
+        }
+        journalRecordCount += changes.size();
+        logger.fine("Appended " + changes.size() + " records to journal " + journalFilePath);
+    }
+
+    /**
+     * Returns the snapshot checksum recorded in the journal header {@code record}.
+     */
+    private static long readHeader(String record) throws IOException {
+        return JsonUtil.fromJsonString(record, JournalHeader.class).snapshotChecksum;
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code filePath}.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+
+    /**
+     * The first record of a journal, identifying the snapshot it applies to.
+     */
+    static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Change's type must be one of ADD, SET or REMOVE";
+    public static final String MESSAGE_INVALID_INDEX = "Change's index must not be negative";
+
+    private final String type;
+    private final int index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type,
+                                        @JsonProperty("index") int index,
+                                        @JsonProperty("person") JsonAdaptedPerson person) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        type = source.getType().name();
+        index = source.getIndex();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        AddressBookChange.Type modelType;
+        try {
+            modelType = AddressBookChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+
+        if (index < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+
+        if (modelType == AddressBookChange.Type.REMOVE) {
+            return new AddressBookChange(modelType, index, null);
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return new AddressBookChange(modelType, index, person.toModelType());
+    }
+
+}
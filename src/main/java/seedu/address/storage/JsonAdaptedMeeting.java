@@ -40,6 +40,14 @@ public class JsonAdaptedMeeting {
         this.description = source.getDescription().orElse(null);
     }
 
+    String getMeetingTime() {
+        return meetingTime;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
     /**
      * Converts this Jackson-friendly adapted meeting object into the model's {@code Meeting} object.
      *
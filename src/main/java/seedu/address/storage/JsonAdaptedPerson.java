@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -22,10 +24,13 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Each adapted person carries a checksum of its fields, so that a record damaged into other valid values is not
+ * read as a different person. Records without a checksum, as written before checksums were added, are not checked.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Person's checksum does not match its fields!";
 
     private final String name;
     private final String phone;
@@ -36,9 +41,19 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final boolean isFlagged;
     private final List<JsonAdaptedMeeting> meetings = new ArrayList<>();
+    private final Long checksum;
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, without a checksum.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String country, String company,
+                             List<JsonAdaptedTag> tags, boolean isFlagged, List<JsonAdaptedMeeting> meetings,
+                             String link) {
+        this(name, phone, email, country, company, tags, isFlagged, meetings, link, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and {@code checksum}, which may be null.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name,
@@ -49,7 +64,8 @@ class JsonAdaptedPerson {
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("isFlagged") boolean isFlagged,
                              @JsonProperty("meetings") List<JsonAdaptedMeeting> meetings,
-                             @JsonProperty("link") String link) {
+                             @JsonProperty("link") String link,
+                             @JsonProperty("checksum") Long checksum) {
 
         this.name = name;
         this.phone = phone;
@@ -64,6 +80,7 @@ class JsonAdaptedPerson {
         if (meetings != null) {
             this.meetings.addAll(meetings);
         }
+        this.checksum = checksum;
     }
 
     /**
@@ -87,6 +104,47 @@ class JsonAdaptedPerson {
         } else {
             link = null;
         }
+        checksum = computeChecksum();
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the fields of this person, other than the checksum itself.
+     */
+    long computeChecksum() {
+        CRC32 crc = new CRC32();
+        update(crc, name);
+        update(crc, phone);
+        update(crc, email);
+        update(crc, country);
+        update(crc, company);
+        update(crc, link);
+        crc.update(tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            update(crc, tag.getTagName());
+        }
+        crc.update(isFlagged ? 1 : 0);
+        crc.update(meetings.size());
+        for (JsonAdaptedMeeting meeting : meetings) {
+            update(crc, meeting.getMeetingTime());
+            update(crc, meeting.getDescription());
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Updates {@code crc} with {@code value}, preceded by its length so that adjacent values cannot run together.
+     */
+    private static void update(CRC32 crc, String value) {
+        if (value == null) {
+            crc.update(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        crc.update(1);
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            crc.update(bytes.length >>> shift);
+        }
+        crc.update(bytes);
     }
 
     /**
@@ -95,6 +153,10 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (checksum != null && checksum != computeChecksum()) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -3,34 +3,56 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file may be compressed with gzip, which is detected when it is read, so that both compressed and
+ * uncompressed files are read whichever way this storage saves.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompressed;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data at {@code filePath}, which compresses the file with gzip
+     * when saving it if {@code isCompressed} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the quarantine kept alongside the data file at {@code filePath}.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".quarantine");
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,20 +67,58 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the persons that can still be read from the data file, appending each record that cannot be read to the
+     * quarantine file kept alongside it, as json with the reason it could not be read.
+     * The data file is then saved with the recovered persons, so that the records are not quarantined again by
+     * the next recovery. A data file that is not well-formed JSON cannot be recovered.
+     *
+     * @throws DataLoadingException if the data file could not be recovered.
+     */
+    @Override
+    public Optional<RecoveredAddressBook> recoverAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        RecoveredAddressBook recovered;
+        try (JsonParser parser = JsonUtil.createParser(filePath);
+                QuarantineFile quarantine = new QuarantineFile(quarantineFilePath)) {
+            AddressBook addressBook = JsonSerializableAddressBook.recover(parser, quarantine);
+            logger.info("Recovered " + addressBook.getPersonList().size() + " persons from " + filePath + ", moving "
+                    + quarantine.getRecordCount() + " records to " + quarantineFilePath);
+            recovered = new RecoveredAddressBook(addressBook, quarantine.getRecordCount(), quarantineFilePath);
+        } catch (IOException e) {
+            logger.warning("Error recovering from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            saveAddressBook(recovered.getAddressBook());
+        } catch (IOException e) {
+            // The persons were still recovered, and are saved again by the next command that changes them
+            logger.warning("Failed to save recovered persons to " + filePath + ": " + e);
+        }
+        return Optional.of(recovered);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +133,12 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (isCompressed) {
+            JsonUtil.writeCompressedJsonFile(filePath,
+                    generator -> JsonSerializableAddressBook.write(generator, addressBook));
+        } else {
+            JsonUtil.writeJsonFile(filePath, generator -> JsonSerializableAddressBook.write(generator, addressBook));
+        }
     }
 
 }
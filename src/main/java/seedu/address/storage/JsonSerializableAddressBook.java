@@ -1,14 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -20,6 +33,10 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON_RECORD = "Person record is not a JSON object.";
+
+    /** Number of persons converted together by a worker when reading. */
+    private static final int CONVERSION_BATCH_SIZE = 1024;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -40,6 +57,143 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same form as a {@code JsonSerializableAddressBook} of it,
+     * adapting one person at a time instead of holding an adapted copy of every person.
+     */
+    public static void write(JsonGenerator generator, ReadOnlyAddressBook source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the form of a {@code JsonSerializableAddressBook} from {@code parser}, one person at a
+     * time, without holding the whole document or an adapted copy of every person in memory.
+     * The persons are converted into the model's {@code Person} in batches on the common {@link ForkJoinPool} while
+     * the rest of the document is read.
+     *
+     * @throws IOException if the document is not a valid address book.
+     * @throws IllegalValueException if there were any data constraints violated, by the first person violating them.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book is not a JSON object");
+        }
+
+        // Limit the batches held in memory when reading is faster than converting
+        int maxPendingBatches = ForkJoinPool.getCommonPoolParallelism() * 2;
+        Deque<CompletableFuture<List<Person>>> pendingBatches = new ArrayDeque<>();
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !fieldName.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+
+            List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    pendingBatches.addLast(convert(batch));
+                    batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+                }
+                if (pendingBatches.size() > maxPendingBatches) {
+                    collect(pendingBatches.removeFirst(), persons);
+                }
+            }
+            pendingBatches.addLast(convert(batch));
+        }
+
+        while (!pendingBatches.isEmpty()) {
+            collect(pendingBatches.removeFirst(), persons);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Similar to {@link #read(JsonParser)}, but moves each person that cannot be read, or violates the data
+     * constraints, to {@code quarantine} and reads the others, instead of failing.
+     * Persons are read and converted one at a time, so the document is still never held in memory as a whole.
+     *
+     * @throws IOException if the document is not well-formed JSON, as its records cannot then be told apart, or if
+     *     writing to {@code quarantine} failed.
+     */
+    public static AddressBook recover(JsonParser parser, QuarantineFile quarantine) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book is not a JSON object");
+        }
+
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !fieldName.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode record = JsonUtil.readTree(parser);
+                if (!record.isObject()) {
+                    quarantine.add(record, MESSAGE_INVALID_PERSON_RECORD);
+                    continue;
+                }
+                try {
+                    persons.add(JsonUtil.treeToValue(record, JsonAdaptedPerson.class).toModelType());
+                } catch (JsonProcessingException e) {
+                    quarantine.add(record, e.getOriginalMessage());
+                } catch (IllegalValueException ive) {
+                    quarantine.add(record, ive.getMessage());
+                }
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Starts converting {@code batch} into the model's {@code Person} objects on the common {@link ForkJoinPool}.
+     */
+    private static CompletableFuture<List<Person>> convert(List<JsonAdaptedPerson> batch) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Person> converted = new ArrayList<>(batch.size());
+            for (JsonAdaptedPerson jsonAdaptedPerson : batch) {
+                try {
+                    converted.add(jsonAdaptedPerson.toModelType());
+                } catch (IllegalValueException ive) {
+                    throw new CompletionException(ive);
+                }
+            }
+            return converted;
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Waits for {@code batch} to be converted and adds its persons to {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the batch.
+     */
+    private static void collect(CompletableFuture<List<Person>> batch, List<Person> persons)
+            throws IllegalValueException {
+        try {
+            persons.addAll(batch.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
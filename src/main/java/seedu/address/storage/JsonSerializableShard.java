@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A shard of an address book, holding some of its persons, that is serializable to JSON format.
+ * Each person is kept with its key, which orders the persons of all the shards of the address book.
+ */
+@JsonRootName(value = "shard")
+class JsonSerializableShard {
+
+    public static final String MESSAGE_KEY_COUNT_MISMATCH = "Shard does not have a key for every person.";
+
+    private final List<Long> keys = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given keys and persons.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("keys") List<Long> keys,
+                                 @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (keys != null) {
+            this.keys.addAll(keys);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Writes {@code entries} to {@code generator} in the form of a {@code JsonSerializableShard},
+     * adapting one person at a time.
+     */
+    public static void write(JsonGenerator generator, List<ShardedAddressBookStorage.Entry> entries)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("keys");
+        for (ShardedAddressBookStorage.Entry entry : entries) {
+            generator.writeNumber(entry.key);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("persons");
+        for (ShardedAddressBookStorage.Entry entry : entries) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(entry.person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts this shard into its persons, each with its key.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<ShardedAddressBookStorage.Entry> toModelType() throws IllegalValueException {
+        if (keys.size() != persons.size() || keys.contains(null)) {
+            throw new IllegalValueException(MESSAGE_KEY_COUNT_MISMATCH);
+        }
+        List<ShardedAddressBookStorage.Entry> entries = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            entries.add(new ShardedAddressBookStorage.Entry(keys.get(i), persons.get(i).toModelType()));
+        }
+        return entries;
+    }
+}
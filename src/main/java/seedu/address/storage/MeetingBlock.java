@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.MeetingLoader;
+
+/**
+ * The meetings of a person in a binary address book file with meeting blocks, which are only read from the file
+ * when they are first needed. See {@link BinaryAddressBookCodec}.
+ *
+ * The file is kept open while blocks refer to it, even after it is replaced by a save, and is closed by the
+ * garbage collector once they no longer do. Blocks are moved to the file they are copied to when saved, so that
+ * the replaced file can be let go of.
+ */
+class MeetingBlock implements MeetingLoader {
+
+    private FileChannel file;
+    private long position;
+    private final int length;
+
+    /**
+     * Creates a block of {@code length} bytes, found at byte {@code position} of {@code file}.
+     */
+    MeetingBlock(FileChannel file, long position, int length) {
+        this.file = file;
+        this.position = position;
+        this.length = length;
+    }
+
+    /**
+     * Returns the length of the block in bytes, which is the same in every file it is in.
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Makes the block refer to its copy at byte {@code position} of {@code file}.
+     */
+    synchronized void moveTo(FileChannel file, long position) {
+        this.file = file;
+        this.position = position;
+    }
+
+    /**
+     * Reads the bytes of the block, as they are written in the file.
+     */
+    synchronized byte[] readBytes() throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        // A channel is closed for every block in it if a thread is interrupted while reading it
+        boolean isInterrupted = Thread.interrupted();
+        try {
+            while (bytes.hasRemaining()) {
+                if (file.read(bytes, position + bytes.position()) == -1) {
+                    throw new EOFException(String.format(BinaryAddressBookCodec.MESSAGE_CORRUPTED_MEETING_BLOCK,
+                            position));
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return bytes.array();
+    }
+
+    @Override
+    public synchronized List<Meeting> loadMeetings() {
+        try {
+            return BinaryAddressBookCodec.readMeetingBlock(readBytes(), position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
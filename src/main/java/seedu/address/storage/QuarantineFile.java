@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A file that the records of a data file that cannot be read are moved to, so that they can be fixed by hand.
+ * Each record is kept as it was read, with the reason it could not be read, as one compact json line.
+ * Records are appended, so that the records quarantined by an earlier recovery are kept. The file is only created
+ * when the first record is added.
+ */
+class QuarantineFile implements Closeable {
+
+    private final Path filePath;
+    private Writer writer;
+    private int recordCount;
+
+    QuarantineFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Appends {@code record}, which could not be read for {@code reason}, to the file.
+     */
+    void add(JsonNode record, String reason) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        writer.write(JsonUtil.toCompactJsonString(new QuarantinedRecord(reason, record)));
+        writer.write(System.lineSeparator());
+        recordCount++;
+    }
+
+    /**
+     * Returns the number of records added to the file since it was opened.
+     */
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * A line of the file.
+     */
+    private static class QuarantinedRecord {
+        private final String reason;
+        private final JsonNode record;
+
+        QuarantinedRecord(String reason, JsonNode record) {
+            this.reason = reason;
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The persons recovered from a data file that could not be loaded in full, and where the records that could not
+ * be read were moved to.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class RecoveredAddressBook {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final int quarantinedCount;
+    private final Path quarantineFilePath;
+
+    /**
+     * Creates a {@code RecoveredAddressBook} of {@code addressBook}, whose {@code quarantinedCount} records that
+     * could not be read were moved to {@code quarantineFilePath}.
+     */
+    public RecoveredAddressBook(ReadOnlyAddressBook addressBook, int quarantinedCount, Path quarantineFilePath) {
+        requireAllNonNull(addressBook, quarantineFilePath);
+        this.addressBook = addressBook;
+        this.quarantinedCount = quarantinedCount;
+        this.quarantineFilePath = quarantineFilePath;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public int getRecoveredCount() {
+        return addressBook.getPersonList().size();
+    }
+
+    public int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
+    public Path getQuarantineFilePath() {
+        return quarantineFilePath;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("recoveredCount", getRecoveredCount())
+                .add("quarantinedCount", quarantinedCount)
+                .add("quarantineFilePath", quarantineFilePath)
+                .toString();
+    }
+}
@@ -0,0 +1,499 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.AddressBookSnapshot.sourceOf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data split into several json files, called shards, on the hard disk.
+ * Each person is kept in the shard given by a stable hash of their email, with a key that orders the persons of all
+ * the shards. The shards are kept in a directory next to the data file, and read in parallel.
+ *
+ * Saving only rewrites the shards whose persons changed since the last save, as told by the changes recorded by
+ * the address book. If they are not known, e.g. for the first save after the address book was read, the address
+ * book is compared with the one last saved or read instead; persons are compared by reference, as they are
+ * immutable.
+ *
+ * The shards rewritten by a save are replaced as a group, so that a person moved between shards is neither lost
+ * nor duplicated by a crash. They are first written in full next to the shards they replace, and then listed in a
+ * commit file, which is written last and in a single step. Only then are they moved over the shards; a save that
+ * is interrupted after its commit file is written is finished by the next read or save, and one interrupted before
+ * is discarded. A save that rewrites a single shard replaces it directly.
+ *
+ * A data file that has not been split into shards yet is read as a single json file.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("shard-(\\d+)\\.json");
+    private static final String PENDING_SHARD_SUFFIX = ".pending";
+    private static final String COMMIT_FILE_NAME = "commit.json";
+
+    private final Path filePath;
+    private final int shardCount;
+
+    /** The persons last saved to or read from the shards of the data file, in order, or null if not known. */
+    private List<Entry> savedEntries;
+    private long nextKey;
+    /** The address book last saved to the data file, whose later changes tell which shards to rewrite. */
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedVersion;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that splits the data at {@code filePath} into {@code shardCount}
+     * shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        assert shardCount > 0;
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the directory in which the shards of the data at {@code filePath} are kept.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".shards");
+    }
+
+    /**
+     * Returns the path of shard number {@code shard} in {@code shardDirectory}.
+     */
+    public static Path getShardFilePath(Path shardDirectory, int shard) {
+        return shardDirectory.resolve(String.format("shard-%03d.json", shard));
+    }
+
+    /**
+     * Returns the path that shard number {@code shard} in {@code shardDirectory} is written to before it replaces
+     * the shard.
+     */
+    static Path getPendingShardFilePath(Path shardDirectory, int shard) {
+        Path shardFile = getShardFilePath(shardDirectory, shard);
+        return shardFile.resolveSibling(shardFile.getFileName() + PENDING_SHARD_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the file that lists the pending shards in {@code shardDirectory} that replace the shards.
+     */
+    static Path getCommitFilePath(Path shardDirectory) {
+        return shardDirectory.resolve(COMMIT_FILE_NAME);
+    }
+
+    /**
+     * Returns the shard, out of {@code shardCount}, in which {@code person} is kept.
+     */
+    public static int shardOf(Person person, int shardCount) {
+        // String hash codes are specified by the language, so they are the same across runs
+        return Math.floorMod(person.getEmail().value.hashCode(), shardCount);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        if (!Files.isDirectory(shardDirectory)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            finishInterruptedSave(shardDirectory);
+        } catch (IOException e) {
+            logger.warning("Error finishing interrupted save in shard directory " + shardDirectory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        List<Path> shardFiles = listShardFiles(shardDirectory);
+        List<CompletableFuture<List<Entry>>> shardReads = new ArrayList<>();
+        for (Path shardFile : shardFiles) {
+            shardReads.add(CompletableFuture.supplyAsync(() -> readShard(shardFile), ForkJoinPool.commonPool()));
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (CompletableFuture<List<Entry>> shardRead : shardReads) {
+            entries.addAll(join(shardRead));
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.key));
+        logger.info("Read " + entries.size() + " persons from " + shardFiles.size() + " shards in " + shardDirectory);
+
+        if (filePath.equals(this.filePath)) {
+            savedEntries = isLaidOut(shardDirectory, shardFiles, entries) ? entries : null;
+            savedAddressBook = null;
+            nextKey = entries.isEmpty() ? 0 : entries.get(entries.size() - 1).key + 1;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(entries.stream().map(entry -> entry.person).toList());
+        return Optional.of(addressBook);
+    }
+
+    private static List<Path> listShardFiles(Path shardDirectory) throws DataLoadingException {
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            return files.filter(file -> shardNumberOf(file) >= 0)
+                    .sorted(Comparator.comparingInt(ShardedAddressBookStorage::shardNumberOf))
+                    .toList();
+        } catch (IOException e) {
+            logger.warning("Error reading from shard directory " + shardDirectory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the number of the shard at {@code file}, or -1 if it is not a shard.
+     */
+    private static int shardNumberOf(Path file) {
+        Matcher matcher = SHARD_FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Reads the persons in {@code shardFile}. Runs on the common {@link ForkJoinPool}, so failures are thrown
+     * wrapped in a {@code CompletionException}.
+     */
+    private static List<Entry> readShard(Path shardFile) {
+        try {
+            Optional<JsonSerializableShard> shard = JsonUtil.readJsonFile(shardFile, JsonSerializableShard.class);
+            return shard.isPresent() ? shard.get().toModelType() : List.of();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFile + ": " + ive.getMessage());
+            throw new CompletionException(new DataLoadingException(ive));
+        } catch (DataLoadingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static List<Entry> join(CompletableFuture<List<Entry>> shardRead) throws DataLoadingException {
+        try {
+            return shardRead.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code shardFiles} are the shards of this storage, holding the persons in {@code entries}
+     * with distinct keys, so that they can be updated shard by shard.
+     */
+    private boolean isLaidOut(Path shardDirectory, List<Path> shardFiles, List<Entry> entries) {
+        if (shardFiles.size() != shardCount) {
+            return false;
+        }
+        for (int i = 0; i < shardCount; i++) {
+            if (!shardFiles.get(i).equals(getShardFilePath(shardDirectory, i))) {
+                return false;
+            }
+        }
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i - 1).key == entries.get(i).key) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only rewrites the changed shards if {@code filePath} is the file of this storage; the shards of other files
+     * are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!filePath.equals(this.filePath)) {
+            saveAllShards(toEntries(persons), filePath);
+            return;
+        }
+
+        BitSet dirtyShards = new BitSet(shardCount);
+        Optional<List<AddressBookChange>> changes = sourceOf(addressBook) == savedAddressBook
+                ? addressBook.getChangesSince(savedVersion)
+                : Optional.empty();
+        List<Entry> entries = null;
+        if (savedEntries != null) {
+            entries = changes.isPresent()
+                    ? applyChanges(changes.get(), dirtyShards)
+                    : compareEntries(persons, dirtyShards);
+        }
+
+        savedEntries = null;
+        savedAddressBook = null;
+        if (entries == null) {
+            // Keys are handed out afresh, so every shard is rewritten
+            entries = toEntries(persons);
+            saveAllShards(entries, filePath);
+            nextKey = entries.size();
+        } else {
+            saveShards(entries, dirtyShards, getShardDirectoryPath(filePath));
+        }
+        savedEntries = entries;
+        savedAddressBook = sourceOf(addressBook);
+        savedVersion = addressBook.getVersion();
+    }
+
+    private static List<Entry> toEntries(List<Person> persons) {
+        List<Entry> entries = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            entries.add(new Entry(i, persons.get(i)));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the saved entries with {@code changes} applied, and marks the shards whose persons changed in
+     * {@code dirtyShards}.
+     * Returns null if a person was added in the middle of the list, as it cannot be given a key in order.
+     */
+    private List<Entry> applyChanges(List<AddressBookChange> changes, BitSet dirtyShards) {
+        List<Entry> entries = new ArrayList<>(savedEntries);
+        for (AddressBookChange change : changes) {
+            int index = change.getIndex();
+            switch (change.getType()) {
+            case ADD:
+                if (index != entries.size()) {
+                    return null;
+                }
+                entries.add(new Entry(nextKey++, change.getPerson()));
+                break;
+            case SET:
+                dirtyShards.set(shardOf(entries.get(index).person, shardCount));
+                entries.set(index, new Entry(entries.get(index).key, change.getPerson()));
+                break;
+            case REMOVE:
+                dirtyShards.set(shardOf(entries.remove(index).person, shardCount));
+                break;
+            default:
+                throw new AssertionError("Unknown change type: " + change.getType());
+            }
+            if (change.getPerson() != null) {
+                dirtyShards.set(shardOf(change.getPerson(), shardCount));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the entries of {@code persons}, keeping the keys of the saved persons, and marks the shards whose
+     * persons changed in {@code dirtyShards}.
+     * The persons are matched to the saved persons by skipping the unchanged persons at the start and end of the
+     * list; the persons in between replace the saved persons at the same positions.
+     * Returns null if persons were inserted in the middle of the list, as they cannot be given keys in order.
+     */
+    private List<Entry> compareEntries(List<Person> persons, BitSet dirtyShards) {
+        int commonLength = Math.min(persons.size(), savedEntries.size());
+        int start = 0;
+        while (start < commonLength && persons.get(start) == savedEntries.get(start).person) {
+            start++;
+        }
+        int end = 0;
+        while (end < commonLength - start
+                && persons.get(persons.size() - 1 - end) == savedEntries.get(savedEntries.size() - 1 - end).person) {
+            end++;
+        }
+        int changedCount = persons.size() - end - start;
+        int savedChangedCount = savedEntries.size() - end - start;
+        if (changedCount > savedChangedCount && end > 0) {
+            return null;
+        }
+
+        List<Entry> entries = new ArrayList<>(persons.size());
+        entries.addAll(savedEntries.subList(0, start));
+        for (int i = 0; i < Math.max(changedCount, savedChangedCount); i++) {
+            if (i < savedChangedCount) {
+                dirtyShards.set(shardOf(savedEntries.get(start + i).person, shardCount));
+            }
+            if (i < changedCount) {
+                Person person = persons.get(start + i);
+                long key = i < savedChangedCount ? savedEntries.get(start + i).key : nextKey++;
+                entries.add(new Entry(key, person));
+                dirtyShards.set(shardOf(person, shardCount));
+            }
+        }
+        entries.addAll(savedEntries.subList(savedEntries.size() - end, savedEntries.size()));
+        return entries;
+    }
+
+    /**
+     * Writes every shard of {@code entries} for the data at {@code filePath}, and deletes any other shards there.
+     */
+    private void saveAllShards(List<Entry> entries, Path filePath) throws IOException {
+        BitSet allShards = new BitSet(shardCount);
+        allShards.set(0, shardCount);
+        saveShards(entries, allShards, getShardDirectoryPath(filePath));
+    }
+
+    /**
+     * Writes the shards in {@code shards} of {@code entries} to {@code shardDirectory} as a group, and deletes any
+     * shards there beyond the shard count.
+     */
+    private void saveShards(List<Entry> entries, BitSet shards, Path shardDirectory) throws IOException {
+        if (shards.isEmpty()) {
+            return;
+        }
+        finishInterruptedSave(shardDirectory);
+        List<List<Entry>> shardEntries = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardEntries.add(new ArrayList<>());
+        }
+        for (Entry entry : entries) {
+            int shard = shardOf(entry.person, shardCount);
+            if (shards.get(shard)) {
+                shardEntries.get(shard).add(entry);
+            }
+        }
+
+        if (shards.cardinality() == 1 && !hasShardsBeyondCount(shardDirectory)) {
+            int shard = shards.nextSetBit(0);
+            JsonUtil.writeJsonFile(getShardFilePath(shardDirectory, shard),
+                    generator -> JsonSerializableShard.write(generator, shardEntries.get(shard)));
+            logger.fine("Rewrote shard " + shard + " in " + shardDirectory);
+            return;
+        }
+
+        List<Integer> pendingShards = new ArrayList<>();
+        for (int shard = shards.nextSetBit(0); shard >= 0; shard = shards.nextSetBit(shard + 1)) {
+            List<Entry> toWrite = shardEntries.get(shard);
+            JsonUtil.writeJsonFile(getPendingShardFilePath(shardDirectory, shard),
+                    generator -> JsonSerializableShard.write(generator, toWrite));
+            pendingShards.add(shard);
+        }
+        ShardCommit commit = new ShardCommit(shardCount, pendingShards);
+        FileUtil.writeToFile(getCommitFilePath(shardDirectory), JsonUtil.toJsonString(commit));
+        commitShards(shardDirectory, commit);
+        logger.fine("Rewrote " + shards.cardinality() + " shards in " + shardDirectory);
+    }
+
+    private boolean hasShardsBeyondCount(Path shardDirectory) throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            return files.anyMatch(file -> shardNumberOf(file) >= shardCount);
+        }
+    }
+
+    /**
+     * Moves the pending shards of {@code commit} over the shards in {@code shardDirectory}, deletes the shards
+     * beyond its shard count, and then the commit file. Pending shards that were already moved are skipped, so that
+     * a commit that was interrupted can be finished.
+     */
+    private static void commitShards(Path shardDirectory, ShardCommit commit) throws IOException {
+        for (int shard : commit.shards) {
+            Path pendingShardFile = getPendingShardFilePath(shardDirectory, shard);
+            if (Files.exists(pendingShardFile)) {
+                FileUtil.move(pendingShardFile, getShardFilePath(shardDirectory, shard));
+            }
+        }
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            for (Path file : files.toList()) {
+                if (shardNumberOf(file) >= commit.shardCount) {
+                    Files.delete(file);
+                }
+            }
+        }
+        Files.delete(getCommitFilePath(shardDirectory));
+    }
+
+    /**
+     * Finishes the save to {@code shardDirectory} that was interrupted after its commit file was written, if any, and
+     * deletes the pending shards of a save that was interrupted before.
+     */
+    private static void finishInterruptedSave(Path shardDirectory) throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+        Path commitFile = getCommitFilePath(shardDirectory);
+        if (Files.exists(commitFile)) {
+            logger.info("Finishing interrupted save of shards in " + shardDirectory);
+            commitShards(shardDirectory, JsonUtil.fromJsonString(FileUtil.readFromFile(commitFile), ShardCommit.class));
+        }
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            for (Path file : files.toList()) {
+                if (file.getFileName().toString().endsWith(PENDING_SHARD_SUFFIX)) {
+                    logger.info("Discarding shard of interrupted save: " + file);
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * The commit file of a save, listing the shards it rewrote, that is serializable to JSON format.
+     */
+    private static class ShardCommit {
+        private final int shardCount;
+        private final List<Integer> shards = new ArrayList<>();
+
+        @JsonCreator
+        ShardCommit(@JsonProperty("shardCount") int shardCount, @JsonProperty("shards") List<Integer> shards) {
+            this.shardCount = shardCount;
+            if (shards != null) {
+                this.shards.addAll(shards);
+            }
+        }
+    }
+
+    /**
+     * A person kept in a shard, with the key that orders it among the persons of all shards.
+     */
+    static class Entry {
+        final long key;
+        final Person person;
+
+        Entry(long key, Person person) {
+            this.key = key;
+            this.person = person;
+        }
+    }
+}
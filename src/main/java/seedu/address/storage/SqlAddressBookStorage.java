@@ -0,0 +1,609 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.AddressBookSnapshot.sourceOf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.HomeCountry;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data kept in an embedded H2 database, in a file next to the data file.
+ * The persons, their tags and their meetings are kept in tables of their own. Each person row has a key that
+ * orders the persons, and that the tag and meeting rows of the person refer to.
+ *
+ * Saving applies the changes made since the last save as row updates in a single transaction, as told by the
+ * changes recorded by the address book, or found by comparing it with the one last saved or read. All the rows are
+ * written again, still in a single transaction, if the changes are not known, if there are too many of them, or if
+ * a person was added in the middle of the list, as it cannot be given a key in order.
+ *
+ * A data file that has not been migrated into a database yet is read as a json file, and migrated the first time
+ * it is read. The database is built under another name and only then moved into place, so that a migration that
+ * fails is done again in full. The json file is then renamed, see {@link #getMigratedFilePath(Path)}, so that it
+ * is not mistaken for the latest data once the database is no longer used. {@link #exportToDataFile(Path)} moves
+ * the data back to a json data file when it is not.
+ *
+ * The database of the data file is kept open from when it is first used until the storage is closed.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage, AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+    /** The suffix that H2 adds to the name of a database to get the name of its file. */
+    private static final String DATABASE_FILE_SUFFIX = ".mv.db";
+    /** Beyond this many changes, all the rows are written again instead of being updated one person at a time. */
+    private static final int MAX_ROW_CHANGES = 1024;
+    /** The number of rows inserted with each batch when all the rows are written. */
+    private static final int BATCH_SIZE = 1024;
+
+    private static final String[] CREATE_TABLES = {
+        "CREATE TABLE IF NOT EXISTS person (id BIGINT PRIMARY KEY, name VARCHAR NOT NULL, phone VARCHAR NOT NULL, "
+                + "email VARCHAR NOT NULL, country VARCHAR NOT NULL, company VARCHAR NOT NULL, "
+                + "is_flagged BOOLEAN NOT NULL, link VARCHAR)",
+        "CREATE TABLE IF NOT EXISTS tag (person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE, "
+                + "name VARCHAR NOT NULL, PRIMARY KEY (person_id, name))",
+        "CREATE TABLE IF NOT EXISTS meeting (person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE, "
+                + "meeting_index INT NOT NULL, meeting_time TIMESTAMP NOT NULL, description VARCHAR, "
+                + "PRIMARY KEY (person_id, meeting_index))"
+    };
+    private static final String INSERT_PERSON = "INSERT INTO person (name, phone, email, country, company, "
+            + "is_flagged, link, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PERSON = "UPDATE person SET name = ?, phone = ?, email = ?, country = ?, "
+            + "company = ?, is_flagged = ?, link = ? WHERE id = ?";
+    private static final String DELETE_PERSON = "DELETE FROM person WHERE id = ?";
+    private static final String INSERT_TAG = "INSERT INTO tag (person_id, name) VALUES (?, ?)";
+    private static final String DELETE_TAGS = "DELETE FROM tag WHERE person_id = ?";
+    private static final String INSERT_MEETING = "INSERT INTO meeting (person_id, meeting_index, meeting_time, "
+            + "description) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_MEETINGS = "DELETE FROM meeting WHERE person_id = ?";
+
+    private final Path filePath;
+
+    /** The keys of the persons last saved to or read from the database of the data file, in order. */
+    private List<Long> savedKeys;
+    /** The persons last saved to or read from the database of the data file, or null if not known. */
+    private List<Person> savedPersons;
+    private long nextKey;
+    /** The address book last saved to the database, whose later changes tell which rows to update. */
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedVersion;
+    /** The connection to the database of the data file, or null if it has not been opened. */
+    private Connection connection;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the file of the database in which the data at {@code filePath} is kept, which is named after the
+     * data file without its extension.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String databaseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(databaseName + DATABASE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path that {@code filePath}, a data file or a database file, is renamed to once its data has been
+     * moved to the other.
+     */
+    public static Path getMigratedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".migrated");
+    }
+
+    /**
+     * Moves the data kept in the database of the data file at {@code filePath} back to the data file, as json,
+     * for when the database is no longer used. The database is then renamed, so that the data file is migrated
+     * into a new database again if the database is used again. Does nothing if there is no database, or if the
+     * data file was written after the database.
+     *
+     * @throws DataLoadingException if the database could not be read.
+     * @throws IOException if the data file could not be written, or the database renamed.
+     */
+    public static void exportToDataFile(Path filePath) throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        Path databaseFile = getDatabaseFilePath(filePath);
+        if (!Files.exists(databaseFile) || (Files.exists(filePath)
+                && Files.getLastModifiedTime(filePath).compareTo(Files.getLastModifiedTime(databaseFile)) >= 0)) {
+            return;
+        }
+
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            logger.info("Moved " + addressBook.getPersonList().size() + " persons from database " + databaseFile
+                    + " to " + filePath);
+        }
+        FileUtil.move(databaseFile, getMigratedFilePath(databaseFile));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only migrates a json data file at {@code filePath} into a database if it is the file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            savedPersons = null;
+            savedAddressBook = null;
+        }
+
+        Path databaseFile = getDatabaseFilePath(filePath);
+        if (!Files.exists(databaseFile)) {
+            Optional<ReadOnlyAddressBook> jsonAddressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+            if (jsonAddressBook.isPresent() && isOwnFile) {
+                migrate(jsonAddressBook.get().snapshot().getPersonList(), databaseFile);
+            }
+            return jsonAddressBook;
+        }
+        if (Files.exists(filePath)) {
+            logger.warning("Ignoring data file " + filePath + " as its data is kept in database " + databaseFile
+                    + ". Remove the database to migrate the data file into a new one.");
+        }
+
+        List<Long> keys = new ArrayList<>();
+        List<Person> persons;
+        try {
+            persons = isOwnFile
+                    ? readPersons(getConnection(), keys)
+                    : readPersonsOnce(databaseFile, keys);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + databaseFile + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + databaseFile + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        logger.info("Read " + persons.size() + " persons from database " + databaseFile);
+
+        if (isOwnFile) {
+            setSaved(keys, Collections.unmodifiableList(persons));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return Optional.of(addressBook);
+    }
+
+    private static List<Person> readPersonsOnce(Path databaseFile, List<Long> keys)
+            throws SQLException, IllegalValueException {
+        try (Connection connection = connect(databaseFile)) {
+            return readPersons(connection, keys);
+        }
+    }
+
+    /**
+     * Migrates {@code persons}, read from the json data file, into a new database at {@code databaseFile}, and
+     * renames the data file. A failed migration is only logged, as the persons were read, and the database is
+     * created by the next save.
+     */
+    private void migrate(List<Person> persons, Path databaseFile) {
+        try {
+            List<Long> keys = createDatabase(persons, databaseFile);
+            setSaved(keys, persons);
+            logger.info("Migrated " + persons.size() + " persons from " + filePath + " to database " + databaseFile);
+        } catch (IOException e) {
+            logger.warning("Failed to migrate " + filePath + " to database " + databaseFile + ": " + e);
+            return;
+        }
+        try {
+            FileUtil.move(filePath, getMigratedFilePath(filePath));
+        } catch (IOException e) {
+            logger.warning("Failed to rename migrated data file " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Records {@code persons}, with their {@code keys}, as the persons in the database.
+     * {@code persons} is kept as it is rather than copied, so it must not be changed later.
+     */
+    private void setSaved(List<Long> keys, List<Person> persons) {
+        savedKeys = keys;
+        savedPersons = persons;
+        nextKey = keys.isEmpty() ? 0 : keys.get(keys.size() - 1) + 1;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only updates the changed rows if {@code filePath} is the file of this storage; the databases of other files
+     * are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // The persons saved to the database of the data file are kept to compare the next save with. A snapshot,
+        // which is what the background writer saves, gives them without copying them again.
+        List<Person> persons = filePath.equals(this.filePath)
+                ? addressBook.snapshot().getPersonList()
+                : addressBook.getPersonList();
+        Path databaseFile = getDatabaseFilePath(filePath);
+        if (!Files.exists(databaseFile)) {
+            List<Long> keys = createDatabase(persons, databaseFile);
+            if (filePath.equals(this.filePath)) {
+                setSaved(keys, persons);
+                savedAddressBook = sourceOf(addressBook);
+                savedVersion = addressBook.getVersion();
+            }
+            return;
+        }
+        if (!filePath.equals(this.filePath)) {
+            writeDatabase(persons, databaseFile);
+            return;
+        }
+
+        ReadOnlyAddressBook source = sourceOf(addressBook);
+        Optional<List<AddressBookChange>> changes = source == savedAddressBook
+                ? addressBook.getChangesSince(savedVersion)
+                : Optional.empty();
+        if (changes.isEmpty() && savedPersons != null && (savedAddressBook == null || source == savedAddressBook)) {
+            // Persons are immutable, so those left unchanged since the last save are the same instances
+            changes = AddressBookChange.diff(savedPersons, persons, MAX_ROW_CHANGES);
+        }
+
+        List<Long> keys = savedPersons != null && changes.isPresent() && changes.get().size() <= MAX_ROW_CHANGES
+                ? applyChanges(changes.get(), databaseFile)
+                : null;
+        if (keys == null) {
+            keys = writeDatabase(persons, databaseFile);
+        }
+        setSaved(keys, persons);
+        savedAddressBook = source;
+        savedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Applies {@code changes} to the saved rows in the database at {@code databaseFile}, in a single transaction,
+     * and returns the keys of the persons after the changes.
+     * Returns null, without changing the database, if a person was added in the middle of the list.
+     */
+    private List<Long> applyChanges(List<AddressBookChange> changes, Path databaseFile) throws IOException {
+        int size = savedKeys.size();
+        for (AddressBookChange change : changes) {
+            if (change.getType() == AddressBookChange.Type.ADD) {
+                if (change.getIndex() != size) {
+                    return null;
+                }
+                size++;
+            } else if (change.getType() == AddressBookChange.Type.REMOVE) {
+                size--;
+            }
+        }
+        if (changes.isEmpty()) {
+            return savedKeys;
+        }
+
+        List<Long> keys = new ArrayList<>(savedKeys);
+        savedPersons = null;
+        inTransaction(databaseFile, connection -> {
+            for (AddressBookChange change : changes) {
+                switch (change.getType()) {
+                case ADD:
+                    keys.add(nextKey);
+                    insertPerson(connection, nextKey++, change.getPerson());
+                    break;
+                case SET:
+                    updatePerson(connection, keys.get(change.getIndex()), change.getPerson());
+                    break;
+                case REMOVE:
+                    deletePerson(connection, keys.remove(change.getIndex()));
+                    break;
+                default:
+                    throw new AssertionError("Unknown change type: " + change.getType());
+                }
+            }
+        });
+        logger.fine("Applied " + changes.size() + " changes to database " + databaseFile);
+        return keys;
+    }
+
+    /**
+     * Creates the database at {@code databaseFile} with the rows of {@code persons}, and returns their keys.
+     * The database is built in another file, which is moved into place once it is complete and closed.
+     */
+    private List<Long> createDatabase(List<Person> persons, Path databaseFile) throws IOException {
+        Path newDatabaseFile = databaseFile.resolveSibling("new-" + databaseFile.getFileName());
+        Files.deleteIfExists(newDatabaseFile);
+        List<Long> keys = writeDatabase(persons, newDatabaseFile);
+        FileUtil.move(newDatabaseFile, databaseFile);
+        return keys;
+    }
+
+    /**
+     * Replaces the rows in the database at {@code databaseFile} with those of {@code persons}, in a single
+     * transaction, and returns their keys.
+     */
+    private List<Long> writeDatabase(List<Person> persons, Path databaseFile) throws IOException {
+        List<Long> keys = new ArrayList<>(persons.size());
+        inTransaction(databaseFile, connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM meeting");
+                statement.executeUpdate("DELETE FROM tag");
+                statement.executeUpdate("DELETE FROM person");
+            }
+            try (PreparedStatement insertPerson = connection.prepareStatement(INSERT_PERSON);
+                 PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+                 PreparedStatement insertMeeting = connection.prepareStatement(INSERT_MEETING)) {
+                for (int i = 0; i < persons.size(); i++) {
+                    Person person = persons.get(i);
+                    keys.add((long) i);
+                    setPersonValues(insertPerson, i, person);
+                    insertPerson.addBatch();
+                    addTagsAndMeetings(insertTag, insertMeeting, i, person);
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        // The tags and meetings of a person can only be inserted after the person
+                        insertPerson.executeBatch();
+                        insertTag.executeBatch();
+                        insertMeeting.executeBatch();
+                    }
+                }
+                insertPerson.executeBatch();
+                insertTag.executeBatch();
+                insertMeeting.executeBatch();
+            }
+        });
+        logger.fine("Wrote " + persons.size() + " persons to database " + databaseFile);
+        return keys;
+    }
+
+    private static void insertPerson(Connection connection, long key, Person person) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_PERSON)) {
+            setPersonValues(statement, key, person);
+            statement.executeUpdate();
+        }
+        insertTagsAndMeetings(connection, key, person);
+    }
+
+    private static void updatePerson(Connection connection, long key, Person person) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_PERSON)) {
+            setPersonValues(statement, key, person);
+            statement.executeUpdate();
+        }
+        executeUpdate(connection, DELETE_TAGS, key);
+        executeUpdate(connection, DELETE_MEETINGS, key);
+        insertTagsAndMeetings(connection, key, person);
+    }
+
+    private static void deletePerson(Connection connection, long key) throws SQLException {
+        // The tags and meetings of the person are deleted with it
+        executeUpdate(connection, DELETE_PERSON, key);
+    }
+
+    private static void executeUpdate(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void insertTagsAndMeetings(Connection connection, long key, Person person) throws SQLException {
+        try (PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+             PreparedStatement insertMeeting = connection.prepareStatement(INSERT_MEETING)) {
+            addTagsAndMeetings(insertTag, insertMeeting, key, person);
+            insertTag.executeBatch();
+            insertMeeting.executeBatch();
+        }
+    }
+
+    /**
+     * Sets the values of the person row of {@code person} in {@code statement}, in the order of
+     * {@link #INSERT_PERSON} and {@link #UPDATE_PERSON}.
+     */
+    private static void setPersonValues(PreparedStatement statement, long key, Person person) throws SQLException {
+        statement.setString(1, person.getName().fullName);
+        statement.setString(2, person.getPhone().value);
+        statement.setString(3, person.getEmail().value);
+        statement.setString(4, person.getCountry().value);
+        statement.setString(5, person.getCompany().value);
+        statement.setBoolean(6, person.isFlagged());
+        statement.setString(7, person.getLink() != null ? person.getLink().value : null);
+        statement.setLong(8, key);
+    }
+
+    private static void addTagsAndMeetings(PreparedStatement insertTag, PreparedStatement insertMeeting, long key,
+                                           Person person) throws SQLException {
+        for (Tag tag : person.getTags()) {
+            insertTag.setLong(1, key);
+            insertTag.setString(2, tag.tagName);
+            insertTag.addBatch();
+        }
+        List<Meeting> meetings = person.getMeetings();
+        for (int i = 0; i < meetings.size(); i++) {
+            insertMeeting.setLong(1, key);
+            insertMeeting.setInt(2, i);
+            insertMeeting.setObject(3, meetings.get(i).getMeetingTime());
+            insertMeeting.setString(4, meetings.get(i).getDescription().orElse(null));
+            insertMeeting.addBatch();
+        }
+    }
+
+    /**
+     * Reads the persons in the database of {@code connection}, in order, and adds their keys to {@code keys}.
+     * The values are validated by their constructors, and the company, country and tags of the same value are
+     * created only once, so that persons share them.
+     */
+    private static List<Person> readPersons(Connection connection, List<Long> keys)
+            throws SQLException, IllegalValueException {
+        Map<Long, Set<Tag>> tags = new HashMap<>();
+        Map<String, Tag> distinctTags = new HashMap<>();
+        Map<Long, List<Meeting>> meetings = new HashMap<>();
+        Map<String, Company> companies = new HashMap<>();
+        Map<String, HomeCountry> countries = new HashMap<>();
+        List<Person> persons = new ArrayList<>();
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, name FROM tag")) {
+                while (rows.next()) {
+                    Tag tag = distinctTags.computeIfAbsent(rows.getString(2), Tag::new);
+                    tags.computeIfAbsent(rows.getLong(1), key -> new HashSet<>()).add(tag);
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, meeting_time, description FROM meeting "
+                    + "ORDER BY person_id, meeting_index")) {
+                while (rows.next()) {
+                    Meeting meeting = new Meeting(rows.getObject(2, LocalDateTime.class), rows.getString(3));
+                    meetings.computeIfAbsent(rows.getLong(1), key -> new ArrayList<>()).add(meeting);
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT id, name, phone, email, country, company, "
+                    + "is_flagged, link FROM person ORDER BY id")) {
+                while (rows.next()) {
+                    long key = rows.getLong(1);
+                    String link = rows.getString(8);
+                    HomeCountry country = countries.computeIfAbsent(rows.getString(5), HomeCountry::new);
+                    Company company = companies.computeIfAbsent(rows.getString(6), Company::new);
+                    persons.add(new Person(new Name(rows.getString(2)), new Phone(rows.getString(3)),
+                            new Email(rows.getString(4)), country, company, tags.getOrDefault(key, Set.of()),
+                            rows.getBoolean(7), meetings.getOrDefault(key, List.of()),
+                            link != null ? new Link(link) : null));
+                    keys.add(key);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+        return persons;
+    }
+
+    /**
+     * Runs {@code work} on a connection to the database at {@code databaseFile}, creating the database and its
+     * tables if they do not exist, in a single transaction that is rolled back if {@code work} fails.
+     * The connection to the database of the data file is kept open, while others are closed once done.
+     *
+     * @throws IOException if the database could not be opened, or {@code work} failed.
+     */
+    private void inTransaction(Path databaseFile, Transaction work) throws IOException {
+        try {
+            if (databaseFile.equals(getDatabaseFilePath(filePath))) {
+                inTransaction(getConnection(), work);
+                return;
+            }
+            try (Connection connection = connect(databaseFile)) {
+                createTables(connection);
+                inTransaction(connection, work);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not write to database " + databaseFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void inTransaction(Connection connection, Transaction work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            work.run(connection);
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void createTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String createTable : CREATE_TABLES) {
+                statement.executeUpdate(createTable);
+            }
+        }
+    }
+
+    /**
+     * Returns the connection to the database of the data file, opening it if it is not open.
+     */
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = connect(getDatabaseFilePath(filePath));
+            createTables(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Closes the database of the data file, if it is open. The storage opens it again if it is used again.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close database " + getDatabaseFilePath(filePath) + ": " + e.getMessage(),
+                    e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private static Connection connect(Path databaseFile) throws SQLException {
+        String fileName = databaseFile.toAbsolutePath().toString();
+        String databaseName = fileName.substring(0, fileName.length() - DATABASE_FILE_SUFFIX.length());
+        return DriverManager.getConnection("jdbc:h2:file:" + databaseName);
+    }
+
+    /**
+     * Work done on the database in a transaction.
+     */
+    @FunctionalInterface
+    private interface Transaction {
+        void run(Connection connection) throws SQLException;
+    }
+}
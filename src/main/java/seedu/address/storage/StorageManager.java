@@ -28,6 +28,41 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates the {@code AddressBookStorage} for the data file of {@code userPrefs}, in the format they select.
+     * In order of precedence, the data is kept in an embedded database, in the binary format, split into shards,
+     * kept as a json snapshot with a journal, or kept as a json file. Every format reads a json data file at the
+     * same path, so existing data is migrated to the selected format when it is next saved, or when it is first
+     * read for the database. Data kept in a database that is no longer selected is moved back to the data file.
+     * Formats with a single data file keep a backup of it, see {@link BackedUpAddressBookStorage}.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.isDatabaseStorageEnabled()) {
+            // The database keeps its own data safe with transactions
+            return new SqlAddressBookStorage(filePath);
+        }
+        try {
+            SqlAddressBookStorage.exportToDataFile(filePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to move the data in the database of " + filePath + " to the data file: " + e);
+        }
+        if (userPrefs.getShardCount() > 0 && !userPrefs.isBinaryStorageEnabled()) {
+            // The data is spread over the shard files, so there is no single data file to back up
+            return new ShardedAddressBookStorage(filePath, userPrefs.getShardCount());
+        }
+
+        AddressBookStorage addressBookStorage;
+        if (userPrefs.isBinaryStorageEnabled()) {
+            addressBookStorage = new BinaryAddressBookStorage(filePath, userPrefs.isLazyMeetingLoadingEnabled());
+        } else if (userPrefs.isJournalEnabled()) {
+            addressBookStorage = new JournaledAddressBookStorage(filePath, userPrefs.isCompressedStorageEnabled());
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(filePath, userPrefs.isCompressedStorageEnabled());
+        }
+        return new BackedUpAddressBookStorage(addressBookStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -64,6 +99,32 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<RecoveredAddressBook> recoverAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to recover data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.recoverAddressBook();
+    }
+
+    @Override
+    public boolean isWrittenInBackground() {
+        return addressBookStorage.isWrittenInBackground();
+    }
+
+    @Override
+    public boolean isWritten(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.isWritten(addressBook);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        addressBookStorage.close();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -151,6 +151,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the result display.
+     */
+    void showFeedbackToUser(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
     /**
      * Closes the application.
      */
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows an error dialog with {@code title} and the message of {@code e}, returning once it is closed. */
+    void showErrorDialogAndWait(String title, Throwable e);
+
 }
@@ -23,13 +23,23 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private String startupMessage;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, "");
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, which shows {@code startupMessage} in the result
+     * display once started, unless it is empty.
+     */
+    public UiManager(Logic logic, String startupMessage) {
         this.logic = logic;
+        this.startupMessage = startupMessage;
     }
 
     @Override
@@ -43,6 +53,9 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (!startupMessage.isEmpty()) {
+                mainWindow.showFeedbackToUser(startupMessage);
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -74,6 +87,11 @@ public class UiManager implements Ui {
         alert.showAndWait();
     }
 
+    @Override
+    public void showErrorDialogAndWait(String title, Throwable e) {
+        showAlertDialogAndWait(Alert.AlertType.ERROR, title, e.getMessage(), e.toString());
+    }
+
     /**
      * Shows an error alert dialog with {@code title} and error message, {@code e},
      * and exits the application after the user has closed the alert dialog.
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,42 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_missingFileAndDirectory_fileCreated() throws Exception {
+        Path file = testFolder.resolve("new").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {'a', 'b'}));
+        assertEquals("ab", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_fileReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), Files.list(testFolder).toList());
+    }
+
+    @Test
+    public void append_existingFile_bytesAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.append(file, new byte[] {'n', 'e', 'w'});
+        assertEquals("oldnew", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_contentFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[] {'n', 'e', 'w'});
+            throw new IOException("Disk full");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        // The temporary file is removed
+        assertEquals(List.of(file), Files.list(testFolder).toList());
+    }
+
 }
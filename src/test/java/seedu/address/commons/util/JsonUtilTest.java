@@ -39,6 +39,26 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJsonFile_valueWrittenToGenerator_sameAsSerializedFile() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.writeJsonFile(SERIALIZATION_FILE, generator -> JsonUtil.writeValue(generator, serializableTestClass));
+
+        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
+    }
+
+    @Test
+    public void deserializeObjectFromJsonFile_nonAsciiText_decodedAsUtf8() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"name\": \"Zo\u00eb \u65e5\u672c\"}");
+
+        SerializableTestClass serializableTestClass = JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+
+        assertEquals("Zo\u00eb \u65e5\u672c", serializableTestClass.getName());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
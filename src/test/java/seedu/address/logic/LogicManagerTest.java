@@ -1,19 +1,27 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.COUNTRY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.COUNTRY_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +29,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,7 +39,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.CoalescingAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -41,6 +54,9 @@ public class LogicManagerTest {
     @TempDir
     public Path temporaryFolder;
 
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + COUNTRY_DESC_AMY + COMPANY_DESC_AMY;
+
     private Model model = new ModelManager();
     private Logic logic;
 
@@ -83,6 +99,127 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsNotChangingAddressBook_addressBookNotSaved() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + COUNTRY_DESC_AMY + COMPANY_DESC_AMY;
+        logicManager.execute(addCommand);
+        assertEquals(1, saveCount[0]);
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(FindCommand.COMMAND_WORD + NAME_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, logicManager.getAvoidedSaveCount());
+
+        logicManager.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_firstCommandNotChangingAddressBook_addressBookNotSaved() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        // the model starts empty, as if the data file could not be read
+        Logic logicManager = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getAvoidedSaveCount());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_backgroundWriteFailed_reportedByNextCommandAndRetried() throws Exception {
+        boolean[] isFailing = {true};
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        try (CoalescingAddressBookStorage writer = new CoalescingAddressBookStorage(
+                new FailingAddressBookStorage(filePath, isFailing), 0)) {
+            logic = new LogicManager(model, new StorageManager(writer,
+                    new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+            logic.execute(ADD_COMMAND);
+
+            // commands that do not change the address book report the failure once the write has failed
+            String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(CommandException.class,
+                    expectedMessage, () -> {
+                        while (true) {
+                            logic.execute(ListCommand.COMMAND_WORD);
+                        }
+                    }));
+
+            // a write that failed after the failure was reported is superseded once the retry is written
+            isFailing[0] = false;
+            writer.flush();
+            logic.execute(ListCommand.COMMAND_WORD);
+            logic.execute(ExitCommand.COMMAND_WORD);
+            assertEquals(model.getAddressBook(),
+                    new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void execute_commandAfterFailedBackgroundWrite_changesOfCommandWritten() throws Exception {
+        boolean[] isFailing = {true};
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        FailingAddressBookStorage failingStorage = new FailingAddressBookStorage(filePath, isFailing);
+        try (CoalescingAddressBookStorage writer = new CoalescingAddressBookStorage(failingStorage, 0)) {
+            logic = new LogicManager(model, new StorageManager(writer,
+                    new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+            logic.execute(ADD_COMMAND);
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                while (failingStorage.failedWriteCount == 0) {
+                    Thread.sleep(1);
+                }
+            });
+
+            // the command that reports the failure has still queued its own changes
+            assertThrows(CommandException.class,
+                    String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), () ->
+                            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                                    + COUNTRY_DESC_BOB + COMPANY_DESC_BOB));
+            assertEquals(2, model.getAddressBook().getPersonList().size());
+
+            isFailing[0] = false;
+            writer.flush();
+            assertEquals(model.getAddressBook(),
+                    new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void execute_exitAfterFailedBackgroundWrite_throwsCommandException() throws Exception {
+        boolean[] isFailing = {true};
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        try (CoalescingAddressBookStorage writer = new CoalescingAddressBookStorage(
+                new FailingAddressBookStorage(filePath, isFailing), 60_000)) {
+            logic = new LogicManager(model, new StorageManager(writer,
+                    new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+            logic.execute(ADD_COMMAND);
+
+            assertCommandException(ExitCommand.COMMAND_WORD,
+                    String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+            // the failed write is retried by the next exit
+            isFailing[0] = false;
+            logic.execute(ExitCommand.COMMAND_WORD);
+            assertEquals(model.getAddressBook(),
+                    new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -173,4 +310,26 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * An address book storage that throws {@code DUMMY_IO_EXCEPTION} when saving while {@code isFailing[0]} is true.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private final boolean[] isFailing;
+        private volatile int failedWriteCount;
+
+        FailingAddressBookStorage(Path filePath, boolean[] isFailing) {
+            super(filePath);
+            this.isFailing = isFailing;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing[0]) {
+                failedWriteCount++;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
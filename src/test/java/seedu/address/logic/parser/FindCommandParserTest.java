@@ -16,6 +16,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.MeetingQuery;
 
 public class FindCommandParserTest {
 
@@ -51,6 +52,22 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, userInput, expected);
     }
 
+    @Test
+    public void parse_meetingQueryTerms_returnsFindCommand() {
+        String userInput = " m/upcoming m/from:01-10-2025 m/desc:review ";
+        ArgumentMultimap expectedMap = ArgumentTokenizer.tokenize(
+                userInput, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_COUNTRY,
+                PREFIX_COMPANY, PREFIX_TAG, PREFIX_MEETING, PREFIX_LINK);
+        FindCommand expected = new FindCommand(new MultiFieldContainsKeywordsPredicate(expectedMap));
+        assertParseSuccess(parser, userInput, expected);
+    }
+
+    @Test
+    public void parse_invalidMeetingQueryTerm_throwsParseException() {
+        assertParseFailure(parser, " m/from:2025-10-01", MeetingQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Alice m/on:31-02-2025", MeetingQuery.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_emptyArg_throwsParseException() {
         assertParseFailure(parser, "     ",
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookChange.Type;
+import seedu.address.model.person.Person;
+
+public class AddressBookChangeTest {
+
+    private static final List<Person> PERSONS = List.of(ALICE, BENSON, CARL, DANIEL, ELLE);
+
+    @Test
+    public void diff_samePersons_noChanges() {
+        assertEquals(List.of(), AddressBookChange.diff(PERSONS, new ArrayList<>(PERSONS), 0).get());
+    }
+
+    @Test
+    public void diff_personEdited_setChange() {
+        Person flaggedCarl = CARL.withFlag();
+        List<Person> to = List.of(ALICE, BENSON, flaggedCarl, DANIEL, ELLE);
+
+        assertEquals(List.of(new AddressBookChange(Type.SET, 2, flaggedCarl)),
+                AddressBookChange.diff(PERSONS, to, 1).get());
+    }
+
+    @Test
+    public void diff_personsAddedAndRemoved_reproducesList() {
+        assertDiffReproduces(PERSONS, List.of(ALICE, BENSON, CARL, DANIEL, ELLE, HOON));
+        assertDiffReproduces(PERSONS, List.of(HOON, ALICE, BENSON, CARL, DANIEL, ELLE));
+        assertDiffReproduces(PERSONS, List.of(ALICE, CARL, DANIEL.withFlag(), ELLE));
+        assertDiffReproduces(PERSONS, List.of(ALICE, HOON, CARL, IDA, ELLE));
+        assertDiffReproduces(PERSONS, List.of(ELLE, DANIEL, CARL, BENSON, ALICE));
+        assertDiffReproduces(PERSONS, List.of());
+        assertDiffReproduces(List.of(), PERSONS);
+    }
+
+    @Test
+    public void diff_tooManyChanges_empty() {
+        assertFalse(AddressBookChange.diff(PERSONS, List.of(ALICE), 3).isPresent());
+        assertFalse(AddressBookChange.diff(PERSONS, List.of(HOON, BENSON, IDA, DANIEL, ELLE), 1).isPresent());
+        assertEquals(2, AddressBookChange.diff(PERSONS, List.of(HOON, BENSON, IDA, DANIEL, ELLE), 2).get().size());
+    }
+
+    /**
+     * Asserts that applying the diff of {@code from} and {@code to} to {@code from} gives {@code to}.
+     */
+    private static void assertDiffReproduces(List<Person> from, List<Person> to) {
+        List<Person> persons = new ArrayList<>(from);
+        for (AddressBookChange change : AddressBookChange.diff(from, to, Integer.MAX_VALUE).get()) {
+            switch (change.getType()) {
+            case ADD:
+                persons.add(change.getIndex(), change.getPerson());
+                break;
+            case SET:
+                persons.set(change.getIndex(), change.getPerson());
+                break;
+            case REMOVE:
+                persons.remove(change.getIndex());
+                break;
+            default:
+                throw new AssertionError("Unknown change type: " + change.getType());
+            }
+        }
+        assertEquals(to, persons);
+    }
+}
@@ -8,15 +8,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_COUNTRY_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -65,6 +70,113 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void hasMeeting_nullMeeting_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.hasMeeting(null));
+    }
+
+    @Test
+    public void hasMeeting_followsPersonMutations() {
+        Meeting meeting = new Meeting(LocalDateTime.of(2025, 10, 22, 10, 0));
+        assertFalse(addressBook.hasMeeting(meeting));
+
+        Person aliceWithMeeting = ALICE.withAddedMeeting(meeting);
+        addressBook.addPerson(aliceWithMeeting);
+        assertTrue(addressBook.hasMeeting(meeting));
+
+        addressBook.setPerson(aliceWithMeeting, ALICE);
+        assertFalse(addressBook.hasMeeting(meeting));
+
+        addressBook.setPerson(ALICE, aliceWithMeeting);
+        addressBook.removePerson(aliceWithMeeting);
+        assertFalse(addressBook.hasMeeting(meeting));
+
+        addressBook.setPersons(Collections.singletonList(aliceWithMeeting));
+        assertTrue(addressBook.hasMeeting(meeting));
+    }
+
+    @Test
+    public void hasMeeting_pendingMeetings_loadedWhenFirstCalled() {
+        Meeting meeting = new Meeting(LocalDateTime.of(2025, 10, 22, 10, 0));
+        Person aliceWithPendingMeeting = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getCountry(), ALICE.getCompany(), ALICE.getTags(), false, () -> List.of(meeting),
+                ALICE.getLink());
+        addressBook.setPersons(List.of(aliceWithPendingMeeting));
+        addressBook.addPerson(BENSON);
+        assertTrue(aliceWithPendingMeeting.getPendingMeetingLoader().isPresent());
+
+        assertTrue(addressBook.hasMeeting(meeting));
+        assertFalse(aliceWithPendingMeeting.getPendingMeetingLoader().isPresent());
+    }
+
+    @Test
+    public void getVersion_changesOnEveryMutation() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_recordedChanges_returnsChangesInOrder() {
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.addPerson(BENSON);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(Optional.of(List.of(
+                new AddressBookChange(AddressBookChange.Type.ADD, 1, BENSON),
+                new AddressBookChange(AddressBookChange.Type.SET, 0, editedAlice),
+                new AddressBookChange(AddressBookChange.Type.REMOVE, 1, null))),
+                addressBook.getChangesSince(version));
+        assertEquals(Optional.of(List.of()), addressBook.getChangesSince(addressBook.getVersion()));
+
+        // a future version
+        assertEquals(Optional.empty(), addressBook.getChangesSince(addressBook.getVersion() + 1));
+    }
+
+    @Test
+    public void getChangesSince_personsReplaced_returnsEmptyOptional() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Optional.empty(), addressBook.getChangesSince(version));
+        assertEquals(Optional.of(List.of()), addressBook.getChangesSince(addressBook.getVersion()));
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.addPerson(BENSON);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(version + 1, snapshot.getVersion());
+        assertEquals(Optional.of(List.of(new AddressBookChange(AddressBookChange.Type.ADD, 1, BENSON))),
+                snapshot.getChangesSince(version));
+        assertEquals(Optional.empty(), snapshot.getChangesSince(addressBook.getVersion()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -90,6 +202,21 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public Optional<List<AddressBookChange>> getChangesSince(long version) {
+            return Optional.empty();
+        }
+
+        @Override
+        public ReadOnlyAddressBook snapshot() {
+            return this;
+        }
     }
 
 }
@@ -3,15 +3,20 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +25,7 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.MultiFieldContainsKeywordsPredicate;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RefinablePredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -122,6 +128,152 @@ public class ModelManagerTest {
         assertTrue(updatedAlice.getMeetings().contains(meeting));
     }
 
+    @Test
+    public void hasMeeting_meetingAddedAndDeleted_tracksMeeting() {
+        Person alice = new PersonBuilder(ALICE).build();
+        modelManager.addPerson(alice);
+        Meeting meeting = new Meeting(LocalDateTime.of(2025, 10, 22, 10, 0), "Project Discussion");
+        assertFalse(modelManager.hasMeeting(meeting));
+
+        modelManager.addMeeting(alice, meeting);
+        assertTrue(modelManager.hasMeeting(meeting));
+
+        modelManager.deleteMeeting(modelManager.getFilteredPersonList().get(0), meeting);
+        assertFalse(modelManager.hasMeeting(meeting));
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicateThenEdit_matchesUnindexedFilter() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        argMultimap.put(PREFIX_NAME, "meier");
+        MultiFieldContainsKeywordsPredicate predicate = new MultiFieldContainsKeywordsPredicate(argMultimap);
+
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // an edited person is tested against the filter again
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_meetingTimeRange_matchesPersonsWithMeetingsInRange() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.addMeeting(ALICE, new Meeting(LocalDateTime.of(2025, 10, 22, 10, 0), "Project Discussion"));
+        modelManager.addMeeting(BENSON, new Meeting(LocalDateTime.of(2025, 11, 5, 9, 0)));
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        argMultimap.put(PREFIX_MEETING, "from:01-10-2025");
+        argMultimap.put(PREFIX_MEETING, "to:31-10-2025");
+
+        modelManager.updateFilteredPersonList(new MultiFieldContainsKeywordsPredicate(argMultimap));
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredPersonList());
+
+        // a person edited to have a meeting in the range is matched too
+        Person editedDaniel = DANIEL.withAddedMeeting(new Meeting(LocalDateTime.of(2025, 10, 1, 0, 0)));
+        modelManager.setPerson(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(alice, editedDaniel), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinedPredicates_matchesUnrefinedFilters() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(nameContains("mei"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(nameContains("meier", "ida"));
+        modelManager.updateFilteredPersonList(nameContains("daniel meier"));
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredPersonList());
+
+        // a broader filter is tested against the matches of the filter it refines
+        modelManager.updateFilteredPersonList(nameContains("meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // a filter refining none of the previous ones is tested against every person
+        modelManager.updateFilteredPersonList(nameContains("e"));
+        assertEquals(getTypicalAddressBook().getPersonList().stream().filter(nameContains("e")).toList(),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinedPredicateAfterEdit_testsEditedPerson() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(nameContains("e"));
+        modelManager.updateFilteredPersonList(nameContains("meier"));
+
+        // the edited person matched neither filter when they were applied
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonList(nameContains("alice meier"));
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(nameContains("e"));
+        modelManager.updateFilteredPersonList(nameContains("mei"));
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedPredicateAfterEdit_testsEditedPerson() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(nameContains("meier"));
+        modelManager.updateFilteredPersonList(nameContains("kurz"));
+        modelManager.updateFilteredPersonList(nameContains("meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // cached matches are discarded once the address book changes
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonList(nameContains("kurz"));
+        modelManager.updateFilteredPersonList(nameContains("meier"));
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(nameContains("meier"));
+        assertEquals(Arrays.asList(editedAlice, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallelFilterThenEdit_matchesSerialFilter() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        ModelManager parallelModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        ModelManager serialModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Predicate<Person> predicate = person -> person.getCompany().value.equals("Shopee");
+
+        parallelModel.updateFilteredPersonList(predicate);
+        serialModel.updateFilteredPersonList(predicate);
+        assertEquals(serialModel.getFilteredPersonList(), parallelModel.getFilteredPersonList());
+
+        // an edited person is tested against the filter again
+        Person editedAlice = new PersonBuilder(ALICE).withCompany("Shopee").build();
+        parallelModel.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), parallelModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_knownMatches_notTestedAgain() {
+        CountingPredicate predicate = new CountingPredicate();
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        // the cached matches are trusted, while an edited person is tested again
+        int testCount = predicate.testCount;
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(testCount, predicate.testCount);
+
+        Person editedAlice = new PersonBuilder(ALICE).withCompany("Shopee").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void deleteMeeting_nullArguments_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.deleteMeeting(null,
@@ -146,6 +298,12 @@ public class ModelManagerTest {
         assertFalse(updatedAlice.getMeetings().contains(meeting));
     }
 
+    private static MultiFieldContainsKeywordsPredicate nameContains(String... keywords) {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Arrays.stream(keywords).forEach(keyword -> argMultimap.put(PREFIX_NAME, keyword));
+        return new MultiFieldContainsKeywordsPredicate(argMultimap);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -187,4 +345,22 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * A cacheable predicate matching persons at Shopee, which counts the persons it tests.
+     */
+    private static class CountingPredicate implements RefinablePredicate {
+        private int testCount;
+
+        @Override
+        public boolean test(Person person) {
+            testCount++;
+            return person.getCompany().value.equals("Shopee");
+        }
+
+        @Override
+        public boolean refines(Predicate<Person> other) {
+            return other == this;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonFilterTest {
+
+    @Test
+    public void filter_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelPersonFilter.filter(null, person -> true));
+        assertThrows(NullPointerException.class, () -> ParallelPersonFilter.filter(getTypicalPersons(), null));
+    }
+
+    @Test
+    public void filter_smallList_returnsMatches() {
+        Predicate<Person> predicate = person -> person.getName().fullName.contains("Meier");
+        assertEquals(getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet()),
+                ParallelPersonFilter.filter(getTypicalPersons(), predicate));
+    }
+
+    @Test
+    public void filter_largeList_returnsSameMatchesAsSerialFilter() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        Predicate<Person> predicate = person -> person.getPhone().value.endsWith("7");
+
+        assertEquals(new HashSet<>(persons.stream().filter(predicate).toList()),
+                new HashSet<>(ParallelPersonFilter.filter(persons, predicate)));
+        assertEquals(2_000, ParallelPersonFilter.filter(persons, predicate).size());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    private static CompressedBitmap bitmapOf(Iterable<Integer> values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        values.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    private static List<Integer> valuesOf(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    @Test
+    public void addRemoveContains_sparseValues() {
+        CompressedBitmap bitmap = bitmapOf(List.of(5, 70_000, 3, 1 << 30));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertEquals(List.of(3, 5, 70_000, 1 << 30), valuesOf(bitmap));
+
+        bitmap.remove(70_000);
+        bitmap.remove(70_001); // not present
+        assertEquals(List.of(3, 5, 1 << 30), valuesOf(bitmap));
+        assertEquals(3, bitmap.cardinality());
+    }
+
+    @Test
+    public void addRemove_denseChunk_switchesBetweenArrayAndBitmap() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        int count = CompressedBitmap.MAX_ARRAY_CARDINALITY * 2;
+        for (int i = 0; i < count; i++) {
+            bitmap.add(i * 3);
+        }
+        assertEquals(count, bitmap.cardinality());
+        assertTrue(bitmap.contains(3 * 5000));
+        assertFalse(bitmap.contains(3 * 5000 + 1));
+
+        for (int i = 0; i < count; i += 2) {
+            bitmap.remove(i * 3);
+        }
+        assertEquals(count / 2, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(3));
+
+        for (int i = 1; i < count; i += 2) {
+            bitmap.remove(i * 3);
+        }
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void andOr_randomValues_matchSetOperations() {
+        Random random = new Random(42);
+        TreeSet<Integer> first = new TreeSet<>();
+        TreeSet<Integer> second = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            first.add(random.nextInt(200_000));
+            second.add(random.nextInt(i % 2 == 0 ? 70_000 : 300_000));
+        }
+
+        TreeSet<Integer> union = new TreeSet<>(first);
+        union.addAll(second);
+        TreeSet<Integer> intersection = new TreeSet<>(first);
+        intersection.retainAll(second);
+
+        CompressedBitmap firstBitmap = bitmapOf(first);
+        CompressedBitmap secondBitmap = bitmapOf(second);
+        assertEquals(new ArrayList<>(union), valuesOf(CompressedBitmap.or(firstBitmap, secondBitmap)));
+        assertEquals(new ArrayList<>(intersection), valuesOf(CompressedBitmap.and(firstBitmap, secondBitmap)));
+
+        // operands are left unchanged
+        assertEquals(new ArrayList<>(first), valuesOf(firstBitmap));
+        assertEquals(new ArrayList<>(second), valuesOf(secondBitmap));
+    }
+
+    @Test
+    public void clear_nonEmptyBitmap_becomesEmpty() {
+        CompressedBitmap bitmap = bitmapOf(List.of(1, 2, 100_000));
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+    }
+}
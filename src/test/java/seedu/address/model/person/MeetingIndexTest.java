@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MeetingIndexTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 10, 22, 9, 0);
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 10, 22, 12, 0);
+    private static final LocalDateTime EVENING = LocalDateTime.of(2025, 10, 22, 18, 0);
+
+    private final MeetingIndex meetingIndex = new MeetingIndex();
+
+    @Test
+    public void hasMeetingAt_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> meetingIndex.hasMeetingAt(null));
+    }
+
+    @Test
+    public void hasMeetingAt_afterAdd_returnsTrue() {
+        meetingIndex.add(ALICE.withAddedMeeting(new Meeting(MORNING)));
+        assertTrue(meetingIndex.hasMeetingAt(MORNING));
+        assertFalse(meetingIndex.hasMeetingAt(NOON));
+    }
+
+    @Test
+    public void hasMeetingAt_afterRemovingOneOfTwoHolders_returnsTrue() {
+        Person alice = ALICE.withAddedMeeting(new Meeting(MORNING));
+        Person bob = BOB.withAddedMeeting(new Meeting(MORNING));
+        meetingIndex.add(alice);
+        meetingIndex.add(bob);
+
+        meetingIndex.remove(alice);
+        assertTrue(meetingIndex.hasMeetingAt(MORNING));
+
+        meetingIndex.remove(bob);
+        assertFalse(meetingIndex.hasMeetingAt(MORNING));
+    }
+
+    @Test
+    public void remove_personNotAdded_leavesIndexUnchanged() {
+        Person alice = ALICE.withAddedMeeting(new Meeting(MORNING));
+        meetingIndex.add(alice);
+
+        // equal but not the same instance
+        meetingIndex.remove(ALICE.withAddedMeeting(new Meeting(MORNING)));
+        assertTrue(meetingIndex.hasMeetingAt(MORNING));
+    }
+
+    @Test
+    public void setPersons_replacesContents() {
+        meetingIndex.add(ALICE.withAddedMeeting(new Meeting(MORNING)));
+        meetingIndex.setPersons(Collections.singletonList(BOB.withAddedMeeting(new Meeting(NOON))));
+        assertFalse(meetingIndex.hasMeetingAt(MORNING));
+        assertTrue(meetingIndex.hasMeetingAt(NOON));
+    }
+
+    @Test
+    public void getPersonsWithMeetingsBetween_returnsPersonsInRangeOnce() {
+        Person alice = ALICE.withAddedMeeting(new Meeting(NOON)).withAddedMeeting(new Meeting(EVENING));
+        Person bob = BOB.withAddedMeeting(new Meeting(MORNING));
+        meetingIndex.setPersons(Arrays.asList(alice, bob));
+
+        assertEquals(Arrays.asList(bob, alice), meetingIndex.getPersonsWithMeetingsBetween(MORNING, EVENING));
+        assertEquals(List.of(alice), meetingIndex.getPersonsWithMeetingsBetween(NOON, EVENING));
+        assertEquals(List.of(bob), meetingIndex.getPersonsWithMeetingsBetween(MORNING, MORNING));
+        assertEquals(List.of(), meetingIndex.getPersonsWithMeetingsBetween(EVENING, MORNING));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetingQueryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private final Person person = new PersonBuilder().withMeetings(
+            "25-10-2025 14:30 Project meeting", "27-08-2025 08:30 Product review").build();
+
+    private boolean matches(String... terms) {
+        return new MeetingQuery(List.of(terms), NOW).matches(person);
+    }
+
+    @Test
+    public void constructor_invalidTerm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MeetingQuery(List.of("from:32-10-2025")));
+    }
+
+    @Test
+    public void isValidTerm() {
+        // null term
+        assertThrows(NullPointerException.class, () -> MeetingQuery.isValidTerm(null));
+
+        // invalid terms
+        assertFalse(MeetingQuery.isValidTerm("")); // empty string
+        assertFalse(MeetingQuery.isValidTerm(" ")); // spaces only
+        assertFalse(MeetingQuery.isValidTerm("from:2025-10-01")); // wrong date format
+        assertFalse(MeetingQuery.isValidTerm("to:01-10-2025 25:00")); // invalid time
+        assertFalse(MeetingQuery.isValidTerm("on:29-02-2025")); // invalid date
+        assertFalse(MeetingQuery.isValidTerm("on:01-10-2025 10:00")); // time not allowed
+        assertFalse(MeetingQuery.isValidTerm("desc: ")); // blank description keyword
+
+        // valid terms
+        assertTrue(MeetingQuery.isValidTerm("upcoming"));
+        assertTrue(MeetingQuery.isValidTerm("PAST"));
+        assertTrue(MeetingQuery.isValidTerm("from:01-10-2025"));
+        assertTrue(MeetingQuery.isValidTerm("To:01-10-2025 10:00"));
+        assertTrue(MeetingQuery.isValidTerm("on:01-10-2025"));
+        assertTrue(MeetingQuery.isValidTerm("desc:review"));
+        assertTrue(MeetingQuery.isValidTerm("25 Oct 2025")); // plain keyword
+    }
+
+    @Test
+    public void matches_keywords_matchesDisplayedTextOrDescription() {
+        assertTrue(matches("25 oct 2025 14:30"));
+        assertTrue(matches("desc:REVIEW"));
+        assertTrue(matches("2024", "review")); // OR between keywords
+        assertFalse(matches("desc:oct")); // only in the displayed time
+        assertFalse(matches("2024"));
+    }
+
+    @Test
+    public void matches_upcomingOrPast_relativeToNow() {
+        assertTrue(matches("upcoming", "desc:project"));
+        assertFalse(matches("upcoming", "desc:review"));
+        assertTrue(matches("past", "desc:review"));
+        assertFalse(matches("upcoming", "past"));
+    }
+
+    @Test
+    public void matches_timeRange_inclusive() {
+        assertTrue(matches("from:25-10-2025 14:30"));
+        assertFalse(matches("from:25-10-2025 14:31"));
+        assertTrue(matches("to:27-08-2025"));
+        assertFalse(matches("to:26-08-2025"));
+        assertTrue(matches("on:25-10-2025"));
+        assertFalse(matches("from:01-09-2025", "to:30-09-2025"));
+    }
+
+    @Test
+    public void matches_filtersAndKeywords_appliedToSameMeeting() {
+        assertFalse(matches("from:01-10-2025", "desc:review"));
+        assertTrue(matches("from:01-10-2025", "desc:review", "desc:project"));
+    }
+
+    @Test
+    public void getCandidates_timeFilters_personsWithMeetingsInRange() {
+        Person other = new PersonBuilder().withName("Other").withMeetings("01-10-2025 13:00 Kickoff").build();
+        MeetingIndex index = new MeetingIndex();
+        index.setPersons(List.of(person, other));
+
+        assertEquals(Optional.of(Set.of(person)), new MeetingQuery(List.of("on:25-10-2025"), NOW).getCandidates(index));
+        assertEquals(Optional.of(Set.of(person, other)),
+                new MeetingQuery(List.of("from:01-10-2025", "desc:review"), NOW).getCandidates(index));
+        assertEquals(Optional.of(Set.of(person)), new MeetingQuery(List.of("past"), NOW).getCandidates(index));
+        assertEquals(Optional.of(Set.of()), new MeetingQuery(List.of("to:01-08-2025"), NOW).getCandidates(index));
+
+        // keywords alone cannot be looked up
+        assertEquals(Optional.empty(), new MeetingQuery(List.of("review"), NOW).getCandidates(index));
+    }
+
+    @Test
+    public void matches_noMeetings_returnsFalse() {
+        assertFalse(new MeetingQuery(List.of("upcoming"), NOW).matches(new PersonBuilder().build()));
+    }
+}
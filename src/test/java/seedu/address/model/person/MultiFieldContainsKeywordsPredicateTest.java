@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
@@ -10,6 +11,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -190,6 +196,93 @@ public class MultiFieldContainsKeywordsPredicateTest {
         assertFalse(p.test(person));
     }
 
+    @Test
+    public void testName_mixedCaseAndBlankKeywords_matchesTrue() {
+        Person person = new PersonBuilder().withName("Alice Pauline").build();
+        ArgumentMultimap map = new ArgumentMultimap();
+        map.put(PREFIX_NAME, "   ");
+        map.put(PREFIX_NAME, "  PAUL ");
+        MultiFieldContainsKeywordsPredicate p = new MultiFieldContainsKeywordsPredicate(map);
+        assertTrue(p.test(person));
+    }
+
+    @Test
+    public void test_multimapModifiedAfterConstruction_usesOriginalKeywords() {
+        Person person = new PersonBuilder().withName("Alice Pauline").build();
+        ArgumentMultimap map = new ArgumentMultimap();
+        map.put(PREFIX_NAME, "alice");
+        MultiFieldContainsKeywordsPredicate p = new MultiFieldContainsKeywordsPredicate(map);
+
+        map.put(PREFIX_COUNTRY, "usa");
+        assertTrue(p.test(person));
+    }
+
+    // search index
+    @Test
+    public void getCandidates_multipleFields_intersectsFieldCandidates() {
+        SearchIndex index = new SearchIndex();
+        index.build(getTypicalPersons());
+        ArgumentMultimap map = new ArgumentMultimap();
+        map.put(PREFIX_NAME, "meier");
+        map.put(PREFIX_COUNTRY, "singapore");
+        MultiFieldContainsKeywordsPredicate p = new MultiFieldContainsKeywordsPredicate(map);
+        assertEquals(Optional.of(Set.of(BENSON)), p.getCandidates(index));
+    }
+
+    @Test
+    public void getCandidates_onlyUnindexedFields_returnsEmptyOptional() {
+        SearchIndex index = new SearchIndex();
+        index.build(getTypicalPersons());
+        ArgumentMultimap map = new ArgumentMultimap();
+        map.put(PREFIX_PHONE, "9435");
+        map.put(PREFIX_NAME, "al"); // shorter than a trigram
+        MultiFieldContainsKeywordsPredicate p = new MultiFieldContainsKeywordsPredicate(map);
+        assertEquals(Optional.empty(), p.getCandidates(index));
+    }
+
+    // refinement
+    @Test
+    public void refines_narrowerKeywordsAndExtraField_returnsTrue() {
+        ArgumentMultimap broadMap = new ArgumentMultimap();
+        broadMap.put(PREFIX_NAME, "mei");
+        broadMap.put(PREFIX_NAME, "kur");
+        MultiFieldContainsKeywordsPredicate broad = new MultiFieldContainsKeywordsPredicate(broadMap);
+
+        ArgumentMultimap narrowMap = new ArgumentMultimap();
+        narrowMap.put(PREFIX_NAME, "Meier");
+        narrowMap.put(PREFIX_COMPANY, "shopee");
+        MultiFieldContainsKeywordsPredicate narrow = new MultiFieldContainsKeywordsPredicate(narrowMap);
+
+        assertTrue(narrow.refines(broad));
+        assertTrue(broad.refines(broad));
+        assertFalse(broad.refines(narrow));
+    }
+
+    @Test
+    public void refines_unrelatedOrMeetingFilters_returnsFalse() {
+        ArgumentMultimap nameMap = new ArgumentMultimap();
+        nameMap.put(PREFIX_NAME, "meier");
+        MultiFieldContainsKeywordsPredicate name = new MultiFieldContainsKeywordsPredicate(nameMap);
+
+        // a keyword that does not contain any previous keyword of the field
+        ArgumentMultimap otherNameMap = new ArgumentMultimap();
+        otherNameMap.put(PREFIX_NAME, "kurz");
+        assertFalse(new MultiFieldContainsKeywordsPredicate(otherNameMap).refines(name));
+
+        // a field that is no longer constrained
+        ArgumentMultimap companyMap = new ArgumentMultimap();
+        companyMap.put(PREFIX_COMPANY, "shopee");
+        assertFalse(new MultiFieldContainsKeywordsPredicate(companyMap).refines(name));
+
+        // meeting queries depend on when they were created
+        ArgumentMultimap meetingMap = new ArgumentMultimap();
+        meetingMap.put(PREFIX_MEETING, "upcoming");
+        MultiFieldContainsKeywordsPredicate meeting = new MultiFieldContainsKeywordsPredicate(meetingMap);
+        assertFalse(meeting.refines(meeting));
+
+        assertFalse(name.refines(person -> true));
+    }
+
     @Test
     public void equals() {
         ArgumentMultimap map1 = new ArgumentMultimap();
@@ -218,4 +311,31 @@ public class MultiFieldContainsKeywordsPredicateTest {
         // null -> false
         assertFalse(p1.equals(null));
     }
+
+    @Test
+    public void hashCode_equalPredicates_sameHashCode() {
+        ArgumentMultimap map1 = new ArgumentMultimap();
+        map1.put(PREFIX_NAME, "alice");
+        map1.put(PREFIX_TAG, "friends");
+        ArgumentMultimap map2 = new ArgumentMultimap();
+        map2.put(PREFIX_NAME, "alice");
+        map2.put(PREFIX_TAG, "friends");
+
+        assertEquals(new MultiFieldContainsKeywordsPredicate(map1).hashCode(),
+                new MultiFieldContainsKeywordsPredicate(map2).hashCode());
+    }
+
+    @Test
+    public void equals_mapChangedAfterCreation_predicateUnchanged() {
+        ArgumentMultimap map = new ArgumentMultimap();
+        map.put(PREFIX_NAME, "alice");
+        MultiFieldContainsKeywordsPredicate predicate = new MultiFieldContainsKeywordsPredicate(map);
+        int hashCode = predicate.hashCode();
+
+        map.put(PREFIX_TAG, "friends");
+        ArgumentMultimap expectedMap = new ArgumentMultimap();
+        expectedMap.put(PREFIX_NAME, "alice");
+        assertEquals(new MultiFieldContainsKeywordsPredicate(expectedMap), predicate);
+        assertEquals(hashCode, predicate.hashCode());
+    }
 }
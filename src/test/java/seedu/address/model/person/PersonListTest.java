@@ -10,12 +10,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -47,6 +49,47 @@ public class PersonListTest {
         assertTrue(personList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSamePhoneOnly_returnsTrue() {
+        personList.add(ALICE);
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(personList.contains(samePhone));
+    }
+
+    @Test
+    public void contains_afterRemovingOneOfTwoSharingPhone_returnsTrue() {
+        Person p1 = new PersonBuilder().withPhone("12345678").withEmail("a@test.com").build();
+        Person p2 = new PersonBuilder().withPhone("12345678").withEmail("b@test.com").build();
+        personList.add(p1);
+        personList.add(p2);
+
+        personList.removeReference(p1);
+        assertTrue(personList.contains(new PersonBuilder().withPhone("12345678").withEmail("c@test.com").build()));
+        assertFalse(personList.contains(new PersonBuilder().withPhone("87654321").withEmail("a@test.com").build()));
+    }
+
+    @Test
+    public void contains_afterSetPerson_reflectsEditedIdentity() {
+        personList.add(ALICE);
+        personList.setPerson(ALICE, BOB);
+        assertFalse(personList.contains(ALICE));
+        assertTrue(personList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_reflectsReplacement() {
+        personList.add(ALICE);
+        personList.setPersons(Collections.singletonList(BOB));
+        assertFalse(personList.contains(ALICE));
+        assertTrue(personList.contains(BOB));
+
+        PersonList replacement = new PersonList();
+        replacement.add(ALICE);
+        personList.setPersons(replacement);
+        assertTrue(personList.contains(ALICE));
+        assertFalse(personList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> personList.add(null));
@@ -239,6 +282,31 @@ public class PersonListTest {
         assertFalse(personList.asUnmodifiableObservableList().contains(alice));
     }
 
+    @Test
+    public void setPerson_afterEarlierRemovals_replacesCorrectInstance() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Person person = new PersonBuilder().withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@test.com").build();
+            persons.add(person);
+            personList.add(person);
+        }
+
+        // remove every other person from the front, past the point where cached positions are rebuilt
+        for (int i = 0; i < 150; i += 2) {
+            personList.removeReference(persons.get(i));
+        }
+
+        Person last = persons.get(199);
+        personList.setPerson(last, ALICE);
+        ObservableList<Person> list = personList.asUnmodifiableObservableList();
+        assertEquals(ALICE, list.get(list.size() - 1));
+
+        personList.removeReference(persons.get(151));
+        assertEquals(persons.get(152), list.get(list.indexOf(persons.get(150)) + 1));
+        assertThrows(PersonNotFoundException.class, () -> personList.removeReference(persons.get(0)));
+    }
+
     @Test
     public void removeReferenceByReference_nonExistingPerson_throwsException() {
         PersonList personList = new PersonList();
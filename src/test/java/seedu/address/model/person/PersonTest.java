@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COUNTRY_BOB;
@@ -15,6 +16,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +31,47 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getMeetings_pendingMeetings_loadedOnceWhenNeeded() {
+        Meeting meeting = new Meeting(LocalDateTime.of(2025, 10, 20, 14, 30), "Lunch");
+        AtomicInteger loadCount = new AtomicInteger();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getCountry(),
+                ALICE.getCompany(), ALICE.getTags(), false, () -> {
+                    loadCount.incrementAndGet();
+                    return List.of(meeting);
+                }, ALICE.getLink());
+
+        // Flagging and searching by name leave the meetings unloaded
+        Person flaggedPerson = person.withFlag();
+        assertEquals(ALICE.getName().fullName.toLowerCase(), flaggedPerson.getSearchKeys().name);
+        assertTrue(flaggedPerson.getPendingMeetingLoader().isPresent());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(List.of(meeting), person.getMeetings());
+        assertEquals("lunch", person.getSearchKeys().getMeetingDescription(0));
+        assertFalse(person.getPendingMeetingLoader().isPresent());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void equals_pendingMeetingsWithKnownTimes_notLoaded() {
+        Meeting meeting = new Meeting(LocalDateTime.of(2025, 10, 20, 14, 30), "Lunch");
+        AtomicInteger loadCount = new AtomicInteger();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getCountry(),
+                ALICE.getCompany(), ALICE.getTags(), false, List.of(meeting.getMeetingTime()), () -> {
+                    loadCount.incrementAndGet();
+                    return List.of(meeting);
+                }, ALICE.getLink());
+        Person loadedPerson = new PersonBuilder(ALICE).withMeetings().build().withAddedMeeting(meeting);
+
+        assertEquals(List.of(meeting.getMeetingTime()), person.getMeetingTimes());
+        assertEquals(loadedPerson, person);
+        assertEquals(loadedPerson.hashCode(), person.hashCode());
+        assertTrue(person.withFlag().getPendingMeetingLoader().isPresent());
+        assertEquals(List.of(meeting.getMeetingTime()), person.withFlag().getMeetingTimes());
+        assertEquals(0, loadCount.get());
+    }
+
     @Test
     public void withAddedMeeting_addsMeetingAndReturnsNewPerson() {
         // Arrange
@@ -89,6 +133,23 @@ public class PersonTest {
     }
 
 
+    @Test
+    public void getSearchKeys_returnsCaseFoldedFields() {
+        Person person = new PersonBuilder().withName("Alice PAULINE").withCountry("South Korea")
+                .withCompany("ByteDance").withTags("Friends").withLink("https://Example.com").build();
+        SearchKeys searchKeys = person.getSearchKeys();
+
+        assertEquals("alice pauline", searchKeys.name);
+        assertEquals(person.getEmail().value, searchKeys.email);
+        assertEquals("south korea", searchKeys.country);
+        assertEquals("bytedance", searchKeys.company);
+        assertEquals("https://example.com", searchKeys.link);
+        assertEquals(1, searchKeys.getTagCount());
+        assertEquals("friends", searchKeys.getTag(0));
+
+        assertNull(new PersonBuilder().build().getSearchKeys().link);
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
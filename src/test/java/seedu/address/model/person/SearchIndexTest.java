@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.build(getTypicalPersons());
+    }
+
+    @Test
+    public void getCandidates_shortKeywordOnBitmapField_narrowsSearch() {
+        // "sh" is too short for the trigram index, but is matched against the distinct companies
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL)),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.COMPANY, new String[] {"sh"})));
+    }
+
+    @Test
+    public void getCandidates_multipleFields_intersected() {
+        assertEquals(Optional.of(Set.of(BENSON)), searchIndex.getCandidates(Map.of(
+                SearchIndex.Field.TAG, new String[] {"friends"},
+                SearchIndex.Field.COUNTRY, new String[] {"singapore"})));
+        assertEquals(Optional.of(Set.of(DANIEL)), searchIndex.getCandidates(Map.of(
+                SearchIndex.Field.COMPANY, new String[] {"shopee"},
+                SearchIndex.Field.NAME, new String[] {"daniel"})));
+    }
+
+    @Test
+    public void getCandidates_keywordsWithinField_unioned() {
+        assertEquals(Optional.of(Set.of(ALICE, BENSON, FIONA)),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.COUNTRY, new String[] {"china", "singapore"})));
+    }
+
+    @Test
+    public void getCandidates_noIndexedFields_returnsEmptyOptional() {
+        assertEquals(Optional.empty(), searchIndex.getCandidates(Map.of()));
+        assertEquals(Optional.empty(), searchIndex.getCandidates(Map.of(SearchIndex.Field.NAME, new String[] {"al"})));
+    }
+
+    @Test
+    public void remove_lastPersonWithValue_noLongerCandidate() {
+        searchIndex.remove(ALICE);
+        assertEquals(Optional.of(Set.of()),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.COMPANY, new String[] {"google"})));
+    }
+
+    @Test
+    public void remove_equalPersonNotAdded_leavesIndexUnchanged() {
+        // equal but not the same instance
+        searchIndex.remove(new PersonBuilder(BENSON).build());
+        assertEquals(Optional.of(Set.of(BENSON)),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.NAME, new String[] {"benson"})));
+    }
+
+    @Test
+    public void add_afterRemove_reusesIdWithoutMixingUpPersons() {
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        searchIndex.remove(BENSON);
+        searchIndex.add(editedBenson);
+
+        assertEquals(Optional.of(Set.of(DANIEL)),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.NAME, new String[] {"meier"})));
+        assertEquals(Optional.of(Set.of(editedBenson)),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.NAME, new String[] {"mayer"})));
+    }
+
+    @Test
+    public void add_unbuiltIndex_ignored() {
+        searchIndex.clear();
+        searchIndex.add(ALICE);
+        assertFalse(searchIndex.isBuilt());
+
+        searchIndex.build(Set.of());
+        assertEquals(Optional.of(Set.of()),
+                searchIndex.getCandidates(Map.of(SearchIndex.Field.COMPANY, new String[] {"google"})));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final List<Person> persons = getTypicalPersons();
+
+    @BeforeEach
+    public void setUp() {
+        for (int id = 0; id < persons.size(); id++) {
+            trigramIndex.add(persons.get(id), id);
+        }
+    }
+
+    private List<Person> getCandidates(SearchIndex.Field field, String... keywords) {
+        List<Person> candidates = new ArrayList<>();
+        trigramIndex.getCandidates(field, keywords).get().forEach(id -> candidates.add(persons.get(id)));
+        return candidates;
+    }
+
+    @Test
+    public void getCandidates_substringOfField_returnsMatchingPersons() {
+        assertEquals(List.of(BENSON, DANIEL), getCandidates(SearchIndex.Field.NAME, "meier"));
+        assertEquals(List.of(), getCandidates(SearchIndex.Field.NAME, "meiers"));
+    }
+
+    @Test
+    public void getCandidates_multipleKeywords_returnsUnion() {
+        assertEquals(List.of(ALICE, BENSON, DANIEL), getCandidates(SearchIndex.Field.NAME, "alice", "meier"));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsEmptyOptional() {
+        assertEquals(Optional.empty(),
+                trigramIndex.getCandidates(SearchIndex.Field.NAME, new String[] {"meier", "al"}));
+    }
+
+    @Test
+    public void getCandidates_link_indexed() {
+        assertEquals(List.of(BENSON), getCandidates(SearchIndex.Field.LINK, "benson"));
+    }
+
+    @Test
+    public void remove_afterAdd_personNoLongerCandidate() {
+        trigramIndex.remove(BENSON, 1);
+
+        assertEquals(List.of(DANIEL), getCandidates(SearchIndex.Field.NAME, "meier"));
+        assertTrue(getCandidates(SearchIndex.Field.LINK, "benson").isEmpty());
+    }
+
+    @Test
+    public void clear_afterAdd_noCandidates() {
+        trigramIndex.clear();
+        assertTrue(getCandidates(SearchIndex.Field.NAME, "meier").isEmpty());
+    }
+}
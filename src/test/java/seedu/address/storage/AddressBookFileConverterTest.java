@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("data.json");
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertEquals(String.format(AddressBookFileConverter.MESSAGE_SUCCESS, original.getPersonList().size(),
+                        jsonFilePath, binaryFilePath),
+                AddressBookFileConverter.convert(AddressBookFileConverter.COMMAND_TO_BINARY,
+                        jsonFilePath.toString(), binaryFilePath.toString()));
+        assertEquals(original,
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        AddressBookFileConverter.convert(AddressBookFileConverter.COMMAND_TO_JSON,
+                binaryFilePath.toString(), convertedFilePath.toString());
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSourceFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> AddressBookFileConverter.convert(
+                AddressBookFileConverter.COMMAND_TO_BINARY, testFolder.resolve("missing.json").toString(),
+                testFolder.resolve("data.bin").toString()));
+    }
+
+    @Test
+    public void convert_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, AddressBookFileConverter.MESSAGE_USAGE, () ->
+                AddressBookFileConverter.convert(AddressBookFileConverter.COMMAND_TO_BINARY, "data.json"));
+        assertThrows(IllegalArgumentException.class, AddressBookFileConverter.MESSAGE_USAGE, () ->
+                AddressBookFileConverter.convert("to-xml", "data.json", "data.xml"));
+    }
+}
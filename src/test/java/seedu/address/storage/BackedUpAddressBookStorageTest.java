@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class BackedUpAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_savedTwice_backupHasPreviousSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BackedUpAddressBookStorage storage = new BackedUpAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(BackedUpAddressBookStorage.getBackupFilePath(filePath)));
+
+        AddressBook previous = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(previous, new AddressBook(new JsonAddressBookStorage(
+                BackedUpAddressBookStorage.getBackupFilePath(filePath)).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedDataFile_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BackedUpAddressBookStorage storage = new BackedUpAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        FileUtil.writeToFile(filePath, "{\"persons\": [");
+
+        BackedUpAddressBookStorage restartedStorage =
+                new BackedUpAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(addressBook, new AddressBook(restartedStorage.readAddressBook().get()));
+
+        // The corrupted data file is not backed up over the good backup
+        AddressBook changed = new AddressBook(addressBook);
+        changed.removePerson(ALICE);
+        restartedStorage.saveAddressBook(changed);
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(
+                BackedUpAddressBookStorage.getBackupFilePath(filePath)).readAddressBook().get()));
+        assertEquals(changed, new AddressBook(restartedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedJournaledSnapshot_journalReplayedOverBackup() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BackedUpAddressBookStorage storage =
+                new BackedUpAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        FileUtil.writeToFile(filePath, "{\"persons\": [");
+
+        BackedUpAddressBookStorage restartedStorage =
+                new BackedUpAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        assertEquals(addressBook, new AddressBook(restartedStorage.readAddressBook().get()));
+
+        // The snapshot is rewritten by the next save, so the journal is no longer needed to read it
+        restartedStorage.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedDataFileWithoutBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "{\"persons\": [");
+
+        assertThrows(DataLoadingException.class, () ->
+                new BackedUpAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook());
+    }
+}
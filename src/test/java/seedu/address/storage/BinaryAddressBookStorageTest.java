@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("data.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Overwrite with a smaller address book
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_meetingsAndSharedValues_preserved() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withEmail("a@example.com").withPhone("91234567")
+                .withCompany("Shopee").withTags("friends", "colleagues").withFlag(true)
+                .withMeetings("02-03-2025 14:00 Lunch", "01-01-2024 09:30", "02-03-2025 15:00 ").build());
+        original.addPerson(new PersonBuilder().withEmail("b@example.com").withPhone("91234568")
+                .withCompany("Shopee").withTags("friends").withLink("https://example.com").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        List<Person> persons = readBack.getPersonList();
+        assertEquals(original.getPersonList().get(0).getMeetings().stream().map(Meeting::getDescription).toList(),
+                persons.get(0).getMeetings().stream().map(Meeting::getDescription).toList());
+        // Values read from the same dictionary entry are shared
+        assertTrue(persons.get(0).getCompany() == persons.get(1).getCompany());
+    }
+
+    @Test
+    public void readAddressBook_manyPersons_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 1_000; i++) {
+            original.addPerson(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withMeetings("01-01-2025 09:00 Catch up").build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        Path jsonFilePath = testFolder.resolve("data.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(filePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_meetingBlocks_meetingsLoadedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getManyMeetingsAddressBook();
+        new BinaryAddressBookStorage(filePath, true).saveAddressBook(original);
+
+        List<Person> persons = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertTrue(persons.stream().allMatch(person -> person.getPendingMeetingLoader().isPresent()));
+        assertEquals(original.getPersonList().get(3).getMeetings(), persons.get(3).getMeetings());
+        assertFalse(persons.get(3).getPendingMeetingLoader().isPresent());
+        assertTrue(persons.get(4).getPendingMeetingLoader().isPresent());
+        assertEquals(original.getPersonList(), persons);
+    }
+
+    @Test
+    public void readAddressBook_meetingBlocks_meetingClashesCheckedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getManyMeetingsAddressBook();
+        new BinaryAddressBookStorage(filePath, true).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        Meeting clash = original.getPersonList().get(4).getMeetings().get(0);
+        assertTrue(readBack.hasMeeting(new Meeting(clash.getMeetingTime(), "Other")));
+        assertFalse(readBack.hasMeeting(new Meeting(LocalDateTime.of(2030, 1, 1, 9, 0))));
+        assertEquals(original.getPersonList().get(4).getMeetingTimes(),
+                readBack.getPersonList().get(4).getMeetingTimes());
+        assertEquals(original.getPersonList().hashCode(), readBack.getPersonList().hashCode());
+        assertTrue(readBack.getPersonList().stream().allMatch(person -> person.getPendingMeetingLoader().isPresent()));
+    }
+
+    @Test
+    public void saveAddressBook_pendingMeetings_copiedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getManyMeetingsAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Person edited = readBack.getPersonList().get(2);
+        readBack.setPerson(edited, edited.withAddedMeeting(new Meeting(LocalDateTime.of(2025, 6, 1, 12, 0))));
+        readBack.removePerson(readBack.getPersonList().get(0));
+        storage.saveAddressBook(readBack);
+        assertTrue(readBack.getPersonList().get(5).getPendingMeetingLoader().isPresent());
+
+        // Saved again from the blocks in the file just saved, in the layout without meeting blocks
+        new BinaryAddressBookStorage(filePath).saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedMeetingBlock_throwsWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath, true).saveAddressBook(getManyMeetingsAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 5] ^= 0x10;
+        Files.write(filePath, bytes);
+
+        List<Person> persons = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        persons.get(0).getMeetings();
+        assertThrows(UncheckedIOException.class, () -> persons.get(persons.size() - 1).getMeetings());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Rewritten in the binary format when saved
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookCodec.hasMagic(Files.readAllBytes(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookCodec.MAGIC.length] = BinaryAddressBookCodec.VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutMeetingTimes_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getManyMeetingsAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        // Files without meeting blocks are written the same in both versions
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookCodec.MAGIC.length] = BinaryAddressBookCodec.VERSION_WITHOUT_MEETING_TIMES;
+        Files.write(filePath, bytes);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("data.bin")).saveAddressBook(null));
+    }
+
+    private static AddressBook getManyMeetingsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 10; i++) {
+            PersonBuilder person = new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com");
+            if (i % 3 != 0) {
+                person.withMeetings(String.format("%02d-01-2025 09:00 Catch up", i + 1), "02-03-2025 14:00");
+            }
+            addressBook.addPerson(person.build());
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class CoalescingAddressBookStorageTest {
+
+    /** Long enough that no save is written before the test flushes it. */
+    private static final long LONG_SAVE_WINDOW_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private CoalescingAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_savesWithinWindow_onlyLatestSnapshotWritten() throws Exception {
+        List<AddressBook> written = new ArrayList<>();
+        storage = new CoalescingAddressBookStorage(new RecordingStorage(written), LONG_SAVE_WINDOW_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        // changes after the last save are not written
+        addressBook.removePerson(ALICE);
+        storage.flush();
+        assertEquals(List.of(expected), written);
+
+        storage.flush();
+        assertEquals(1, written.size());
+    }
+
+    @Test
+    public void saveAddressBook_shortWindow_writtenInBackground() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = new CoalescingAddressBookStorage(new JsonAddressBookStorage(filePath), 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writtenImmediately() throws Exception {
+        List<AddressBook> written = new ArrayList<>();
+        storage = new CoalescingAddressBookStorage(new RecordingStorage(written), LONG_SAVE_WINDOW_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, testFolder.resolve("other.json"));
+        assertEquals(List.of(addressBook), written);
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_throwsIoExceptionOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        boolean[] isFailing = {true};
+        storage = new CoalescingAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, LONG_SAVE_WINDOW_MILLIS);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), storage::flush);
+
+        isFailing[0] = false;
+        storage.flush();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+    }
+
+    @Test
+    public void flush_afterFailedWrite_failedSnapshotWrittenAgain() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        boolean[] isFailing = {true};
+        Path filePath = testFolder.resolve("ab.json");
+        storage = new CoalescingAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, LONG_SAVE_WINDOW_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.isWritten(addressBook));
+        assertThrows(IOException.class, failure.getMessage(), storage::flush);
+        assertFalse(storage.isWritten(addressBook));
+
+        isFailing[0] = false;
+        storage.flush();
+        assertTrue(storage.isWritten(addressBook));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        addressBook.addPerson(HOON);
+        assertFalse(storage.isWritten(addressBook));
+    }
+
+    /**
+     * A storage that records copies of the address books saved to it instead of writing them.
+     */
+    private class RecordingStorage extends JsonAddressBookStorage {
+        private final List<AddressBook> written;
+
+        RecordingStorage(List<AddressBook> written) {
+            super(testFolder.resolve("addressbook.json"));
+            this.written = written;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            written.add(new AddressBook(addressBook));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_changesSinceLastSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        Person aliceWithMeeting = ALICE.withAddedMeeting(new Meeting(LocalDateTime.of(2025, 10, 22, 10, 0)));
+        original.setPerson(ALICE, aliceWithMeeting);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is left as it is
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsOfSameAddressBook_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original.snapshot());
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original.snapshot());
+
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterRead_diffAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage firstStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        firstStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        firstStorage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // Read back as after a restart, into a copy of the address book as the model does
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Person benson = readBack.getPersonList().get(1);
+        readBack.setPerson(benson, benson.withFlag());
+        readBack.removePerson(readBack.getPersonList().get(0));
+        storage.saveAddressBook(readBack);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentAddressBook_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook other = new AddressBook();
+        other.addPerson(IDA);
+        storage.saveAddressBook(other);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(other, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(other, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person alice = ALICE;
+        for (int i = 0; i <= JournaledAddressBookStorage.COMPACTION_THRESHOLD; i++) {
+            Person edited = new PersonBuilder(alice).withCompany("Company " + i).build();
+            original.setPerson(alice, edited);
+            alice = edited;
+            storage.saveAddressBook(original);
+        }
+
+        assertTrue(Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size()
+                <= JournaledAddressBookStorage.COMPACTION_THRESHOLD);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresRecord() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"type\":\"ADD\",\"ind",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as if the snapshot was rewritten without starting a new journal
+        AddressBook rewritten = new AddressBook();
+        rewritten.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(rewritten);
+        assertEquals(rewritten, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void recoverAddressBook_journalToReplay_notRecovered() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(new JournaledAddressBookStorage(filePath).recoverAddressBook().isPresent());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(new JournaledAddressBookStorage(filePath).recoverAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_changeOutOfRange_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        List<String> records = List.of("{\"type\":\"REMOVE\",\"index\":100}", "{\"type\":\"REMOVE\",\"index\":0}");
+        Files.write(journalFilePath, records, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+}
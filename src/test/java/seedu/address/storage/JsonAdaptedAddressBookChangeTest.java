@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+
+public class JsonAdaptedAddressBookChangeTest {
+
+    @Test
+    public void toModelType_validChanges_returnsChange() throws Exception {
+        AddressBookChange set = new AddressBookChange(AddressBookChange.Type.SET, 3, BENSON);
+        assertEquals(set, new JsonAdaptedAddressBookChange(set).toModelType());
+
+        AddressBookChange remove = new AddressBookChange(AddressBookChange.Type.REMOVE, 0, null);
+        assertEquals(remove, new JsonAdaptedAddressBookChange(remove).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidType_throwsIllegalValueException() {
+        JsonAdaptedAddressBookChange change = new JsonAdaptedAddressBookChange("MOVE", 0, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedAddressBookChange.MESSAGE_INVALID_TYPE,
+                change::toModelType);
+    }
+
+    @Test
+    public void toModelType_negativeIndex_throwsIllegalValueException() {
+        JsonAdaptedAddressBookChange change = new JsonAdaptedAddressBookChange("REMOVE", -1, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedAddressBookChange.MESSAGE_INVALID_INDEX,
+                change::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingPerson_throwsIllegalValueException() {
+        JsonAdaptedAddressBookChange change = new JsonAdaptedAddressBookChange("ADD", 0, null);
+        String expectedMessage = String.format(JsonAdaptedAddressBookChange.MISSING_FIELD_MESSAGE_FORMAT, "person");
+        assertThrows(IllegalValueException.class, expectedMessage, change::toModelType);
+    }
+}
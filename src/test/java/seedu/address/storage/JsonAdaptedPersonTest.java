@@ -57,6 +57,18 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_checksumMismatch_throwsIllegalValueException() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        JsonAdaptedPerson damaged = new JsonAdaptedPerson(VALID_NAME, "98765433", VALID_EMAIL, VALID_COUNTRY,
+                VALID_COMPANY, VALID_TAGS, VALID_IS_FLAGGED, VALID_MEETINGS, VALID_LINK, person.computeChecksum());
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_CHECKSUM_MISMATCH, damaged::toModelType);
+
+        JsonAdaptedPerson intact = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_COUNTRY,
+                VALID_COMPANY, VALID_TAGS, VALID_IS_FLAGGED, VALID_MEETINGS, VALID_LINK, person.computeChecksum());
+        assertEquals(BENSON, intact.toModelType());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -2,20 +2,27 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +93,108 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_typicalAddressBook_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        long uncompressedSize = Files.size(filePath);
+
+        // An uncompressed file is read, then rewritten compressed
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(JsonUtil.isCompressed(Files.readAllBytes(filePath)));
+        assertTrue(Files.size(filePath) * 4 < uncompressedSize);
+
+        // A compressed file is read by any json storage
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompressedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void recoverAddressBook_corruptRecords_validPersonsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        // A phone number changed to another valid one only shows in the checksum
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath)
+                .replace("\"94351253\"", "\"94351254\"")
+                .replace("\"johnd@example.com\"", "\"johnd\""));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        RecoveredAddressBook recovered = storage.recoverAddressBook().get();
+        original.removePerson(ALICE);
+        original.removePerson(BENSON);
+        assertEquals(original, new AddressBook(recovered.getAddressBook()));
+        assertEquals(original.getPersonList().size(), recovered.getRecoveredCount());
+        assertEquals(2, recovered.getQuarantinedCount());
+
+        // Quarantined records are kept as they were, and the data file is saved without them
+        Path quarantineFilePath = JsonAddressBookStorage.getQuarantineFilePath(filePath);
+        assertEquals(quarantineFilePath, recovered.getQuarantineFilePath());
+        List<String> records = Files.readAllLines(quarantineFilePath);
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).contains("\"94351254\""));
+        assertTrue(records.get(1).contains("\"johnd\""));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void recoverAddressBook_recoveredTwice_recordsQuarantinedOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(addToTestDataPathIfNotNull("invalidAndValidPersonAddressBook.json"), filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        RecoveredAddressBook recovered = storage.recoverAddressBook().get();
+        assertTrue(recovered.getQuarantinedCount() > 0);
+        RecoveredAddressBook recoveredAgain = storage.recoverAddressBook().get();
+        assertEquals(new AddressBook(recovered.getAddressBook()), new AddressBook(recoveredAgain.getAddressBook()));
+        assertEquals(0, recoveredAgain.getQuarantinedCount());
+        assertEquals(recovered.getQuarantinedCount(),
+                Files.readAllLines(JsonAddressBookStorage.getQuarantineFilePath(filePath)).size());
+    }
+
+    @Test
+    public void recoverAddressBook_withoutChecksums_validPersonsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(addToTestDataPathIfNotNull("invalidPersonAddressBook.json"), filePath);
+
+        RecoveredAddressBook recovered = new JsonAddressBookStorage(filePath).recoverAddressBook().get();
+        assertTrue(recovered.getAddressBook().getPersonList().isEmpty());
+        assertEquals(1, recovered.getQuarantinedCount());
+    }
+
+    @Test
+    public void recoverAddressBook_notJsonFormat_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(
+                addToTestDataPathIfNotNull("notJsonFormatAddressBook.json")).recoverAddressBook());
+    }
+
+    @Test
+    public void recoverAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("missing.json")).recoverAddressBook().isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,14 +3,20 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -35,4 +41,40 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(TYPICAL_PERSONS_FILE))) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(INVALID_PERSON_FILE))) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream("[]".getBytes()))) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_manyPersons_personsInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 5_000; i++) {
+            addressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        String json = "{\"unknown\":{\"persons\":[]},"
+                + JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)).substring(1);
+
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(json.getBytes()))) {
+            assertEquals(addressBook.getPersonList(), JsonSerializableAddressBook.read(parser).getPersonList());
+        }
+    }
 }
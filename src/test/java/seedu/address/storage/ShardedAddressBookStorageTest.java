@@ -0,0 +1,268 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 8;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json"), SHARD_COUNT)
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withEmail("benson@example.org").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonAdded_oneShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+
+        // Read back as after a restart, into a copy of the address book as the model does
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        List<byte[]> shardsBefore = readShards(filePath);
+
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(1, countChangedShards(shardsBefore, readShards(filePath)));
+        assertEquals(readBack, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personRemovedAndEdited_onlyTheirShardsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(addressBook);
+        List<byte[]> shardsBefore = readShards(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        addressBook.removePerson(persons.get(10));
+        Person edited = persons.get(20);
+        addressBook.setPerson(edited, edited.withFlag());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(countChangedShards(shardsBefore, readShards(filePath)) <= 2);
+        assertEquals(addressBook, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_noShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(addressBook);
+        Files.delete(ShardedAddressBookStorage.getShardFilePath(
+                ShardedAddressBookStorage.getShardDirectoryPath(filePath), 0));
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardFilePath(
+                ShardedAddressBookStorage.getShardDirectoryPath(filePath), 0)));
+    }
+
+    @Test
+    public void saveAddressBook_shardCountChanged_shardsRedistributed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 3);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(3, readShards(filePath).size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath, 3).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unshardedFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(ShardedAddressBookStorage.getShardFilePath(
+                ShardedAddressBookStorage.getShardDirectoryPath(filePath), 1), "{\"keys\": [1], \"persons\": []}");
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedAfterCommitFileWritten_saveFinished() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+
+        // Only the shard the person was moved to had been replaced when the save was interrupted
+        AddressBook moved = new AddressBook(addressBook);
+        Path movedShardDirectory = writeShardsWithPersonMoved(moved);
+        int[] shards = getShardsOfMove(addressBook, moved);
+        Files.copy(ShardedAddressBookStorage.getShardFilePath(movedShardDirectory, shards[0]),
+                ShardedAddressBookStorage.getPendingShardFilePath(shardDirectory, shards[0]));
+        Files.copy(ShardedAddressBookStorage.getShardFilePath(movedShardDirectory, shards[1]),
+                ShardedAddressBookStorage.getShardFilePath(shardDirectory, shards[1]),
+                StandardCopyOption.REPLACE_EXISTING);
+        FileUtil.writeToFile(ShardedAddressBookStorage.getCommitFilePath(shardDirectory),
+                "{\"shardCount\": " + SHARD_COUNT + ", \"shards\": [" + shards[0] + ", " + shards[1] + "]}");
+
+        assertEquals(moved, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+        assertFalse(Files.exists(ShardedAddressBookStorage.getCommitFilePath(shardDirectory)));
+        assertFalse(Files.exists(ShardedAddressBookStorage.getPendingShardFilePath(shardDirectory, shards[0])));
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedBeforeCommitFileWritten_saveDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+
+        AddressBook moved = new AddressBook(addressBook);
+        Path movedShardDirectory = writeShardsWithPersonMoved(moved);
+        for (int shard : getShardsOfMove(addressBook, moved)) {
+            Files.copy(ShardedAddressBookStorage.getShardFilePath(movedShardDirectory, shard),
+                    ShardedAddressBookStorage.getPendingShardFilePath(shardDirectory, shard));
+        }
+
+        assertEquals(addressBook, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            assertEquals(SHARD_COUNT, files.count());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_personMovedBetweenShards_noPendingShardsLeft() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getManyPersonsAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook moved = new AddressBook(addressBook);
+        writeShardsWithPersonMoved(moved);
+        storage.saveAddressBook(moved);
+
+        assertEquals(moved, new AddressBook(
+                new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get()));
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardDirectoryPath(filePath))) {
+            assertEquals(SHARD_COUNT, files.count());
+        }
+    }
+
+    /**
+     * Changes the email of the first person of {@code addressBook} so that they move to another shard, and writes
+     * the shards of the result to another file. Returns the shard directory of that file.
+     */
+    private Path writeShardsWithPersonMoved(AddressBook addressBook) throws Exception {
+        Person person = addressBook.getPersonList().get(0);
+        int shard = ShardedAddressBookStorage.shardOf(person, SHARD_COUNT);
+        Person moved = person;
+        for (int i = 0; ShardedAddressBookStorage.shardOf(moved, SHARD_COUNT) == shard; i++) {
+            moved = new PersonBuilder(person).withEmail("moved" + i + "@example.com").build();
+        }
+        addressBook.setPerson(person, moved);
+
+        Path otherFilePath = testFolder.resolve("moved.json");
+        new ShardedAddressBookStorage(otherFilePath, SHARD_COUNT).saveAddressBook(addressBook);
+        return ShardedAddressBookStorage.getShardDirectoryPath(otherFilePath);
+    }
+
+    /**
+     * Returns the shard the first person of {@code addressBook} was in, and the one they were moved to in
+     * {@code moved}.
+     */
+    private static int[] getShardsOfMove(AddressBook addressBook, AddressBook moved) {
+        int from = ShardedAddressBookStorage.shardOf(addressBook.getPersonList().get(0), SHARD_COUNT);
+        int to = ShardedAddressBookStorage.shardOf(moved.getPersonList().get(0), SHARD_COUNT);
+        return new int[] {from, to};
+    }
+
+    private static AddressBook getManyPersonsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return addressBook;
+    }
+
+    private static List<byte[]> readShards(Path filePath) throws Exception {
+        List<byte[]> shards = new ArrayList<>();
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+        for (int i = 0; Files.exists(ShardedAddressBookStorage.getShardFilePath(shardDirectory, i)); i++) {
+            shards.add(Files.readAllBytes(ShardedAddressBookStorage.getShardFilePath(shardDirectory, i)));
+        }
+        return shards;
+    }
+
+    private static int countChangedShards(List<byte[]> before, List<byte[]> after) {
+        assertEquals(before.size(), after.size());
+        int changed = 0;
+        for (int i = 0; i < before.size(); i++) {
+            if (!Arrays.equals(before.get(i), after.get(i))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
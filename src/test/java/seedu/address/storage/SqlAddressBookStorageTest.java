@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDatabaseFilePath_dataFile_namedAfterDataFile() {
+        assertEquals(testFolder.resolve("addressbook.mv.db"),
+                SqlAddressBookStorage.getDatabaseFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("data.mv.db"),
+                SqlAddressBookStorage.getDatabaseFilePath(testFolder.resolve("data")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(testFolder.resolve("missing.mv.db")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withEmail("benson@example.org").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Read back as after a restart, into a copy of the address book as the model does
+        SqlAddressBookStorage restartedStorage = new SqlAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        readBack.removePerson(readBack.getPersonList().get(0));
+        restartedStorage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstPersonRemoved_otherRowsKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // Rows written again would have been given keys from 0
+        assertEquals(1, queryLong(filePath, "SELECT MIN(id) FROM person"));
+        assertEquals(addressBook.getPersonList().size(), queryLong(filePath, "SELECT COUNT(*) FROM person"));
+        assertEquals(addressBook, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personAddedInMiddle_allRowsWrittenInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(HOON);
+        new SqlAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        // Compared with the persons read, as the changes since then are not known
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        expected.addPerson(BENSON);
+        expected.addPerson(HOON);
+        storage.saveAddressBook(expected);
+        assertEquals(expected, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonDataFile_migratedOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+        assertTrue(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+
+        // The json data file is renamed, so that it is not read as the latest data by other storages
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(SqlAddressBookStorage.getMigratedFilePath(filePath)));
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void exportToDataFile_databaseNoLongerUsed_dataMovedToDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(original);
+            original.removePerson(ALICE);
+            storage.saveAddressBook(original);
+        }
+
+        SqlAddressBookStorage.exportToDataFile(filePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        Path databaseFile = SqlAddressBookStorage.getDatabaseFilePath(filePath);
+        assertFalse(Files.exists(databaseFile));
+        assertTrue(Files.exists(SqlAddressBookStorage.getMigratedFilePath(databaseFile)));
+
+        // Changes made to the data file meanwhile are migrated into a new database when it is used again
+        original.addPerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        }
+        assertTrue(Files.exists(databaseFile));
+    }
+
+    @Test
+    public void exportToDataFile_noDatabase_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        SqlAddressBookStorage.exportToDataFile(filePath);
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterClose_databaseOpenedAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+        assertEquals(addressBook, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRow_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        try (Connection connection = connect(filePath); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE person SET email = 'invalid' WHERE id = 0");
+        }
+
+        assertThrows(DataLoadingException.class, () -> new SqlAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new SqlAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(null));
+    }
+
+    private static long queryLong(Path filePath, String sql) throws SQLException {
+        try (Connection connection = connect(filePath); Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static Connection connect(Path filePath) throws SQLException {
+        String databaseFile = SqlAddressBookStorage.getDatabaseFilePath(filePath).toAbsolutePath().toString();
+        String databaseName = databaseFile.substring(0, databaseFile.length() - ".mv.db".length());
+        return DriverManager.getConnection("jdbc:h2:file:" + databaseName);
+    }
+}
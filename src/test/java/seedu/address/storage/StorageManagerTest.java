@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -65,4 +69,56 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void createAddressBookStorage_formatSelectedByUserPrefs_jsonDataMigrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        UserPrefs userPrefs = new UserPrefs();
+        Path filePath = getTempFilePath("addressbook.json");
+        userPrefs.setAddressBookFilePath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        // Compressed json, with a backup of the previous data file
+        userPrefs.setCompressedStorageEnabled(true);
+        assertMigrated(original, StorageManager.createAddressBookStorage(userPrefs));
+        assertTrue(JsonUtil.isCompressed(Files.readAllBytes(filePath)));
+        assertTrue(Files.exists(BackedUpAddressBookStorage.getBackupFilePath(filePath)));
+
+        // Binary takes precedence over shards
+        userPrefs.setShardCount(4);
+        userPrefs.setBinaryStorageEnabled(true);
+        assertMigrated(original, StorageManager.createAddressBookStorage(userPrefs));
+        assertTrue(BinaryAddressBookCodec.hasMagic(Files.readAllBytes(filePath)));
+
+        // Shards are written next to the data file, which is left as it was
+        userPrefs.setBinaryStorageEnabled(false);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertMigrated(original, StorageManager.createAddressBookStorage(userPrefs));
+        assertTrue(Files.isDirectory(ShardedAddressBookStorage.getShardDirectoryPath(filePath)));
+        assertFalse(JsonUtil.isCompressed(Files.readAllBytes(filePath)));
+
+        // The database takes precedence over every other format
+        userPrefs.setDatabaseStorageEnabled(true);
+        AddressBookStorage databaseStorage = StorageManager.createAddressBookStorage(userPrefs);
+        assertMigrated(original, databaseStorage);
+        databaseStorage.close();
+        assertTrue(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+
+        // The data is moved back to the data file once the database is no longer used
+        userPrefs.setDatabaseStorageEnabled(false);
+        userPrefs.setShardCount(0);
+        assertMigrated(original, StorageManager.createAddressBookStorage(userPrefs));
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+    }
+
+    /**
+     * Asserts that {@code addressBookStorage} reads {@code expected} from the existing data file, and reads it back
+     * after saving it in its own format.
+     */
+    private static void assertMigrated(AddressBook expected, AddressBookStorage addressBookStorage) throws Exception {
+        ReadOnlyAddressBook migrated = addressBookStorage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(migrated));
+        addressBookStorage.saveAddressBook(migrated);
+        assertEquals(expected, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
 }
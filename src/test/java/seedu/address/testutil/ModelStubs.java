@@ -132,6 +132,14 @@ public class ModelStubs {
             throw fail();
         }
 
+        /**
+         * Returns true if any person in the address book has a meeting at the same time as {@code meeting}.
+         */
+        @Override
+        public boolean hasMeeting(Meeting meeting) {
+            throw fail();
+        }
+
         /** Returns an unmodifiable view of the filtered person list */
         @Override
         public ObservableList<Person> getFilteredPersonList() {
@@ -249,6 +257,11 @@ public class ModelStubs {
             return addressBook;
         }
 
+        @Override
+        public boolean hasMeeting(Meeting meeting) {
+            return persons.stream().anyMatch(person -> person.getMeetings().contains(meeting));
+        }
+
         /**
          * Adds a {@code Meeting} to the specified {@code Person}.
          * Updates the internal list of persons with the modified person.
@@ -308,6 +321,11 @@ public class ModelStubs {
             return addressBook;
         }
 
+        @Override
+        public boolean hasMeeting(Meeting meeting) {
+            return persons.stream().anyMatch(person -> person.getMeetings().contains(meeting));
+        }
+
         /**
          * Adds a {@code Meeting} to the specified {@code Person} and records it in {@code meetingsAdded}.
          *